@@ -5,10 +5,28 @@ plugins {
     id("jacoco")
 }
 
+// benchmark sources (src/jmh/java) and load test harness (src/loadTest/java)
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+    create("loadTest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
 configurations {
     compileOnly {
         extendsFrom(configurations.annotationProcessor.get())
     }
+    named("jmhImplementation") {
+        extendsFrom(configurations.implementation.get())
+    }
+    named("loadTestImplementation") {
+        extendsFrom(configurations.implementation.get())
+    }
 }
 
 allprojects {
@@ -23,19 +41,27 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    implementation(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.jol.core)
+    "jmhImplementation"(libs.jmh.core)
+    "jmhAnnotationProcessor"(libs.jmh.generator.annprocess)
+    "loadTestImplementation"(libs.hdrhistogram)
 }
 
 // about source and compilation
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
 }
 
 // bundling tasks
@@ -45,8 +71,63 @@ tasks.getByName("bootJar") {
 tasks.getByName("jar") {
     enabled = false
 }
-// test tasks
+// test tasks (tests tagged "performance" measure timing or load the full app repeatedly, so they run only via performanceTest)
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("performance")
+    }
+    // lets JOL compute record field offsets on JDK 21
+    systemProperty("jol.magicFieldOffset", "true")
+}
+
+tasks.register<Test>("performanceTest") {
+    group = "verification"
+    description = "Runs the timing and load tests tagged \"performance\"."
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("performance")
+    }
+    systemProperty("jol.magicFieldOffset", "true")
+}
+
+// benchmark tasks (e.g. gradle jmh -Pjmh.includes=LongMapBenchmark -Pjmh.resultFile=build/reports/jmh/main.json)
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks in src/jmh and writes the results as JSON."
+    val resultFile = providers.gradleProperty("jmh.resultFile")
+        .map { file(it) }
+        .orElse(layout.buildDirectory.file("reports/jmh/results.json").map { it.asFile })
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    javaLauncher = javaToolchains.launcherFor(java.toolchain)
+    args(providers.gradleProperty("jmh.includes").getOrElse(".*"))
+    args("-rf", "json", "-rff", resultFile.get().absolutePath)
+    providers.gradleProperty("jmh.args").orNull?.let { args(it.split(" ")) }
+    doFirst { resultFile.get().parentFile.mkdirs() }
+}
+
+// load test against an embedded server (e.g. gradle loadTest -Ploadtest.args="--load.rate=500 --spring.profiles.active=primitive")
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Runs the point API load test against an embedded server and reports latency percentiles."
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass = "io.hhplus.tdd.loadtest.PointLoadTest"
+    javaLauncher = javaToolchains.launcherFor(java.toolchain)
+    jvmArgs("-Dstdout.encoding=UTF-8", "-Dstderr.encoding=UTF-8")
+    args("--load.report-directory=" + layout.buildDirectory.dir("reports/loadtest").get().asFile.absolutePath)
+    providers.gradleProperty("loadtest.args").orNull?.let { args(it.split(" ")) }
+}
+
+// JFR analysis (e.g. gradle jfrTopUsers -Pjfr.file=data/jfr/point.jfr -Pjfr.top=10)
+tasks.register<JavaExec>("jfrTopUsers") {
+    group = "verification"
+    description = "Prints the most contended users and table call latency from a JFR recording."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "io.hhplus.tdd.point.PointJfrAnalyzer"
+    javaLauncher = javaToolchains.launcherFor(java.toolchain)
+    jvmArgs("-Dstdout.encoding=UTF-8")
+    args(providers.gradleProperty("jfr.file").getOrElse("data/jfr/point.jfr"))
+    args(providers.gradleProperty("jfr.top").getOrElse("10"))
 }
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.ColumnarPointHistoryStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 이력 조회 비용
+ * - 조회 대상 사용자의 이력 수(historySize)를 바꿔가며 전체 조회(모든 항목 순회)와 중간 지점부터의 페이지 조회를 측정
+ * - 다른 사용자의 이력이 사이사이에 섞여 있도록 대상 사용자 이력 하나마다 다른 사용자 이력을 OTHER_USERS 개씩 기록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class HistoryScanBenchmark {
+    private static final long USER_ID = 1L;
+    private static final int OTHER_USERS = 4;
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"10", "1000", "100000"})
+    private int historySize;
+
+    @Param({"stub", "primitive"})
+    private String engine;
+
+    private HistoryStore historyStore;
+    private long middleCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        historyStore = "stub".equals(engine) ? new ZeroLatencyHistoryStore() : new ColumnarPointHistoryStore();
+        for (int i = 0; i < historySize; i++) {
+            PointHistory pointHistory = historyStore.insert(USER_ID, i + 1L, TransactionType.CHARGE, i);
+            if (i == historySize / 2) {
+                middleCursor = pointHistory.id();
+            }
+            for (int other = 0; other < OTHER_USERS; other++) {
+                historyStore.insert(USER_ID + 1 + other, 1L, TransactionType.USE, i);
+            }
+        }
+    }
+
+    @Benchmark
+    public long scanAll() {
+        List<PointHistory> histories = historyStore.selectAllByUserId(USER_ID);
+        long sum = 0;
+        for (int i = 0; i < histories.size(); i++) {
+            sum += histories.get(i).amount();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public PointHistoryPage pageFromMiddle() {
+        return historyStore.selectPageByUserId(USER_ID, middleCursor, PAGE_SIZE, 0L, Long.MAX_VALUE);
+    }
+}
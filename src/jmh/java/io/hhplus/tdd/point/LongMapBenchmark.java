@@ -0,0 +1,103 @@
+package io.hhplus.tdd.point;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 id 로 포인트를 찾는 맵 비교
+ * - HashMap : UserPointTable 이 사용하는 구조
+ * - ConcurrentHashMap : UserLockManager 가 사용하던 구조
+ * - LongConcurrentMap : long 키 전용 open addressing 맵
+ * 조회 키는 미리 만들어 둔 무작위 순서를 따라가므로, 측정 구간에는 맵 조회 외의 할당이 없음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class LongMapBenchmark {
+    private static final int LOOKUP_KEYS = 1 << 20;
+
+    @Param({"1000000", "10000000"})
+    private int users;
+
+    private HashMap<Long, UserPoint> hashMap;
+    private ConcurrentHashMap<Long, UserPoint> concurrentHashMap;
+    private LongConcurrentMap<UserPoint> longConcurrentMap;
+    private long[] lookupKeys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hashMap = new HashMap<>();
+        concurrentHashMap = new ConcurrentHashMap<>();
+        longConcurrentMap = new LongConcurrentMap<>();
+        for (long userId = 1; userId <= users; userId++) {
+            UserPoint userPoint = new UserPoint(userId, 1000L, 0L);
+            hashMap.put(userId, userPoint);
+            concurrentHashMap.put(userId, userPoint);
+            longConcurrentMap.put(userId, userPoint);
+        }
+        lookupKeys = new long[LOOKUP_KEYS];
+        for (int i = 0; i < LOOKUP_KEYS; i++) {
+            lookupKeys[i] = ThreadLocalRandom.current().nextLong(1, users + 1L);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next = ThreadLocalRandom.current().nextInt(LOOKUP_KEYS);
+
+        private int advance() {
+            next = (next + 1) & (LOOKUP_KEYS - 1);
+            return next;
+        }
+    }
+
+    @Benchmark
+    public UserPoint hashMapGet(Cursor cursor) {
+        return hashMap.get(lookupKeys[cursor.advance()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UserPoint concurrentHashMapGet(Cursor cursor) {
+        return concurrentHashMap.get(lookupKeys[cursor.advance()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UserPoint longConcurrentMapGet(Cursor cursor) {
+        return longConcurrentMap.get(lookupKeys[cursor.advance()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UserPoint concurrentHashMapPut(Cursor cursor) {
+        long userId = lookupKeys[cursor.advance()];
+        return concurrentHashMap.put(userId, hashMap.get(userId));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UserPoint longConcurrentMapPut(Cursor cursor) {
+        long userId = lookupKeys[cursor.advance()];
+        return longConcurrentMap.put(userId, longConcurrentMap.get(userId));
+    }
+}
@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단계별 시간 기록 한 건의 비용
+ * - baseline : 시간 측정(nanoTime 두 번)만 수행
+ * - pointMetrics : PointMetrics 의 단계 기록 (LongAdder 기반 FunctionTimer)
+ * - prometheusTimer : 같은 레지스트리의 일반 Timer 기록 (최댓값 창 갱신 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointMetricsBenchmark {
+    private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    private final PointMetrics metrics = new PointMetrics(registry, new UserLockManager(), new UserPointReadCoalescer(new ReadCoalescingProperties(false)));
+    private final Timer timer = Timer.builder("benchmark.stage").register(registry);
+
+    @Benchmark
+    public long baseline() {
+        long startNanos = System.nanoTime();
+        return System.nanoTime() - startNanos;
+    }
+
+    @Benchmark
+    public void pointMetrics() {
+        long startNanos = System.nanoTime();
+        metrics.recordSelect(System.nanoTime() - startNanos);
+    }
+
+    @Benchmark
+    public void prometheusTimer() {
+        long startNanos = System.nanoTime();
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,133 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.ColumnarPointHistoryStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 의 조회/충전/사용 처리량
+ * - 저장소는 지연 없는 스텁(stub) 또는 primitive 저장소를 사용하므로, 사용자 락/검증/이력 기록 등 서비스 자체의 비용만 측정
+ * - distribution 으로 사용자 분포(단일 사용자 경합, 균등, Zipf)를, readPercent 로 조회 비율을 바꿔가며 측정
+ * - concurrency 로 사용자 락(pessimistic)과 버전 비교(optimistic) 방식의 충전/사용을 비교
+ * - metrics 로 지표 기록 비용을 비교 (none: 아무것도 기록하지 않는 레지스트리, prometheus: 운영과 같은 레지스트리)
+ * - 쓰기는 충전과 사용을 번갈아 수행하고, 모든 사용자는 한도의 절반으로 시작하므로 검증 실패 없이 계속 실행됨
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Threads(4)
+public class PointServiceBenchmark {
+    private static final int OPERATIONS = 1 << 16;
+    // 최대 포인트(100,000)의 절반
+    private static final long INITIAL_POINT = 50_000L;
+
+    @Param({"SINGLE", "UNIFORM", "ZIPF"})
+    private UserIdDistribution distribution;
+
+    @Param({"0", "50", "90"})
+    private int readPercent;
+
+    @Param({"stub", "primitive"})
+    private String engine;
+
+    @Param("10000")
+    private int users;
+
+    @Param({"none", "prometheus"})
+    private String metrics;
+
+    @Param({"pessimistic", "optimistic"})
+    private String concurrency;
+
+    private PointService pointService;
+    private UserCommandMailbox commandMailbox;
+    private PointWriteExecutor writeExecutor;
+
+    // 이력이 계속 쌓이므로 반복(iteration)마다 서비스를 새로 만듦
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BalanceStore balanceStore = "stub".equals(engine) ? new ZeroLatencyBalanceStore() : new PrimitiveBalanceStore();
+        HistoryStore historyStore = "stub".equals(engine) ? new ZeroLatencyHistoryStore() : new ColumnarPointHistoryStore();
+        UserLockManager lockManager = new UserLockManager();
+        // 하위 레지스트리가 없는 CompositeMeterRegistry 는 아무것도 기록하지 않는 지표를 만듦
+        MeterRegistry registry = "none".equals(metrics) ? new CompositeMeterRegistry() : new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        commandMailbox = new UserCommandMailbox(new MailboxProperties(true, 1, 32, false));
+        writeExecutor = new PointWriteExecutor(new ParallelWriteProperties(false, 1, false));
+        UserPointReadCoalescer readCoalescer = new UserPointReadCoalescer(new ReadCoalescingProperties(false));
+        pointService = new PointService(
+                balanceStore,
+                historyStore,
+                lockManager,
+                new UserVersionManager(new OptimisticProperties("optimistic".equals(concurrency), 3, 32, 0.2, 256)),
+                commandMailbox,
+                new PointCommandBatcher(lockManager, new GroupCommitProperties(false, 64)),
+                new PointHistoryWriteBehind(historyStore, new HistoryWriteBehindProperties(false, 1, 1, false)),
+                new UserPointCache(new CacheProperties(false, 1, CacheProperties.Eviction.LRU)),
+                readCoalescer,
+                writeExecutor,
+                new PointMetrics(registry, lockManager, readCoalescer)
+        );
+        for (long userId = 1; userId <= users; userId++) {
+            balanceStore.insertOrUpdate(userId, INITIAL_POINT);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws InterruptedException {
+        commandMailbox.shutdown();
+        writeExecutor.shutdown();
+    }
+
+    @State(Scope.Thread)
+    public static class Operations {
+        private long[] userIds;
+        private boolean[] reads;
+        private int next;
+        private boolean charge;
+
+        @Setup(Level.Trial)
+        public void setUp(PointServiceBenchmark benchmark) {
+            long seed = Thread.currentThread().threadId();
+            userIds = benchmark.distribution.sample(benchmark.users, OPERATIONS, seed);
+            reads = new boolean[OPERATIONS];
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int i = 0; i < OPERATIONS; i++) {
+                reads[i] = random.nextInt(100) < benchmark.readPercent;
+            }
+        }
+    }
+
+    @Benchmark
+    public UserPoint mixed(Operations operations) {
+        int index = operations.next;
+        operations.next = (index + 1) & (OPERATIONS - 1);
+        long userId = operations.userIds[index];
+        if (operations.reads[index]) {
+            return pointService.selectById(userId);
+        }
+        operations.charge = !operations.charge;
+        return operations.charge ? pointService.charge(userId, 1L) : pointService.use(userId, 1L);
+    }
+}
@@ -0,0 +1,43 @@
+package io.hhplus.tdd.point;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크에서 요청할 사용자 id 분포
+ * - SINGLE : 모든 요청이 한 사용자에게 몰림 (사용자 락 경합 최대)
+ * - UNIFORM : 모든 사용자가 같은 확률
+ * - ZIPF : 순위 k 사용자의 확률이 1/k 에 비례 (소수의 사용자에게 요청이 몰리는 실제 트래픽에 가까움)
+ */
+public enum UserIdDistribution {
+    SINGLE, UNIFORM, ZIPF;
+
+    /**
+     * 1 ~ users 범위의 사용자 id 를 count 개 뽑습니다. 측정 구간에서 난수를 만들지 않도록 미리 뽑아 둡니다.
+     */
+    long[] sample(int users, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] userIds = new long[count];
+        switch (this) {
+            case SINGLE -> Arrays.fill(userIds, 1L);
+            case UNIFORM -> {
+                for (int i = 0; i < count; i++) {
+                    userIds[i] = random.nextLong(1, users + 1L);
+                }
+            }
+            case ZIPF -> {
+                double[] cumulative = new double[users];
+                double sum = 0;
+                for (int rank = 1; rank <= users; rank++) {
+                    sum += 1.0 / rank;
+                    cumulative[rank - 1] = sum;
+                }
+                for (int i = 0; i < count; i++) {
+                    int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+                    userIds[i] = (index < 0 ? -index - 1 : index) + 1L;
+                }
+            }
+        }
+        return userIds;
+    }
+}
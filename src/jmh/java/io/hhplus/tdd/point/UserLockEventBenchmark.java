@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point;
+
+import jdk.jfr.Recording;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 락 JFR 이벤트 비용 (경합 없는 락 획득/해제)
+ * - recording=off : 기록하지 않을 때 이벤트를 거치는 비용 (plainLock 과 거의 같아야 함)
+ * - recording=on : jfr/point.jfc 로 기록 중일 때 비용 (경합 없는 획득은 임계값에 걸러져 남지 않음)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserLockEventBenchmark {
+    @Param({"off", "on"})
+    private String recording;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private long userId = 1L;
+    private Recording jfr;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if ("on".equals(recording)) {
+            jfr = new Recording(PointFlightRecorder.settings());
+            jfr.start();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (jfr != null) {
+            jfr.close();
+        }
+    }
+
+    @Benchmark
+    public void plainLock() {
+        lock.lock();
+        lock.unlock();
+    }
+
+    @Benchmark
+    public void lockWithEvent() {
+        UserLockEvent.lock(lock, userId);
+        lock.unlock();
+    }
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 락 획득/해제 비용 (getLock → lock → unlock → release)
+ * - PointService 가 모든 변경마다 거치는 경로이며, 사용자 분포에 따라 락 경합과 레지스트리 등록/제거 빈도가 달라짐
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class UserLockManagerBenchmark {
+    private static final int OPERATIONS = 1 << 16;
+
+    @Param({"SINGLE", "UNIFORM", "ZIPF"})
+    private UserIdDistribution distribution;
+
+    @Param("10000")
+    private int users;
+
+    private final UserLockManager lockManager = new UserLockManager();
+
+    @State(Scope.Thread)
+    public static class Operations {
+        private long[] userIds;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp(UserLockManagerBenchmark benchmark) {
+            userIds = benchmark.distribution.sample(benchmark.users, OPERATIONS, Thread.currentThread().threadId());
+        }
+    }
+
+    @Benchmark
+    public void lockAndRelease(Operations operations) {
+        int index = operations.next;
+        operations.next = (index + 1) & (OPERATIONS - 1);
+        long userId = operations.userIds[index];
+
+        ReentrantLock lock = lockManager.getLock(userId);
+        lock.lock();
+        try {
+            // 임계 구역의 작업은 측정 대상이 아님
+        } finally {
+            lock.unlock();
+            lockManager.release(userId);
+        }
+    }
+}
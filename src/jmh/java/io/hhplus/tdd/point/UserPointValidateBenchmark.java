@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 변경 검증 비용
+ * - 통과하는 검증과, 예외를 던지는 검증(잔액 부족)의 비용 차이를 측정
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserPointValidateBenchmark {
+    // 상수로 접히지 않도록 필드로 둠
+    private UserPoint userPoint = new UserPoint(1L, 50_000L, 0L);
+    private long amount = 1_000L;
+    private long overdraft = 60_000L;
+
+    @Benchmark
+    public UserPoint validateCharge() {
+        userPoint.validate(TransactionType.CHARGE, amount);
+        return userPoint;
+    }
+
+    @Benchmark
+    public UserPoint validateUse() {
+        userPoint.validate(TransactionType.USE, amount);
+        return userPoint;
+    }
+
+    @Benchmark
+    public IllegalArgumentException validateRejected() {
+        try {
+            userPoint.validate(TransactionType.USE, overdraft);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
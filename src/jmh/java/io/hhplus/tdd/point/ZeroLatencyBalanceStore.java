@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지연(throttle) 없는 포인트 저장소
+ * - UserPointTable 과 같은 동작에서 무작위 지연만 뺀 것으로, 벤치마크에서 저장소 대기 대신 우리 코드의 비용만 재기 위해 사용
+ */
+class ZeroLatencyBalanceStore implements BalanceStore {
+    private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint selectById(long id) {
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+}
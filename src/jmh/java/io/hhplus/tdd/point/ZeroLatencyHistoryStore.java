@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지연(throttle) 없는 포인트 이력 저장소
+ * - TableHistoryStore 와 같이 사용자별 인덱스에 이력을 쌓되, PointHistoryTable 의 무작위 지연과 전체 목록 보관은 뺌
+ */
+class ZeroLatencyHistoryStore implements HistoryStore {
+    private final AtomicLong cursor = new AtomicLong();
+    private final PointHistoryIndex historyIndex = new PointHistoryIndex();
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = new PointHistory(cursor.incrementAndGet(), userId, amount, type, updateMillis);
+        historyIndex.append(pointHistory);
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return historyIndex.selectAllByUserId(userId);
+    }
+
+    @Override
+    public PointHistoryPage selectPageByUserId(long userId, long cursor, int limit, long from, long to) {
+        return historyIndex.selectPageByUserId(userId, cursor, limit, from, to);
+    }
+}
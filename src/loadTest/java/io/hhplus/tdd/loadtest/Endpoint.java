@@ -0,0 +1,31 @@
+package io.hhplus.tdd.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+
+/**
+ * 부하를 걸 포인트 API 엔드포인트
+ */
+enum Endpoint {
+    POINT, CHARGE, USE, HISTORIES;
+
+    HttpRequest request(URI baseUri, long userId, long amount) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path(userId)));
+        return switch (this) {
+            case POINT, HISTORIES -> builder.GET().build();
+            case CHARGE, USE -> builder
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(Long.toString(amount)))
+                    .build();
+        };
+    }
+
+    private String path(long userId) {
+        return switch (this) {
+            case POINT -> "/point/" + userId;
+            case CHARGE -> "/point/" + userId + "/charge";
+            case USE -> "/point/" + userId + "/use";
+            case HISTORIES -> "/point/" + userId + "/histories";
+        };
+    }
+}
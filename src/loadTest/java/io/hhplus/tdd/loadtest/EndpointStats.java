@@ -0,0 +1,62 @@
+package io.hhplus.tdd.loadtest;
+
+import io.hhplus.tdd.point.PointValidationException;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 측정 결과
+ * - 지연은 요청을 보내기로 예약한 시각부터 응답을 받은 시각까지로, 마이크로초 단위로 기록
+ * - 응답이 늦어 다음 요청이 밀려도 밀린 시간까지 지연에 포함되므로, 느린 구간의 지연이 표본에서 빠지지 않음 (coordinated omission 방지)
+ */
+class EndpointStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    // 검증 실패는 500 으로 응답하므로 응답 본문의 code(거절 사유)로 구분
+    private static final Set<String> REJECTION_CODES = Arrays.stream(PointValidationException.Reason.values())
+            .map(Enum::name)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    /**
+     * 응답 상태와 오류 코드에 따라 집계합니다.
+     * 4xx 와 검증 실패 코드(잔액 부족 등)는 거절로, 그 외의 5xx 와 전송 실패(status 0)는 실패로 셉니다.
+     *
+     * @param errorCode 오류 응답 본문의 code (없으면 null)
+     */
+    void record(long latencyNanos, int status, String errorCode) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (status >= 200 && status < 300) {
+            successCount.increment();
+        } else if ((status >= 400 && status < 500) || REJECTION_CODES.contains(errorCode)) {
+            rejectedCount.increment();
+        } else {
+            failedCount.increment();
+        }
+    }
+
+    Histogram histogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    long successCount() {
+        return successCount.sum();
+    }
+
+    long rejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    long failedCount() {
+        return failedCount.sum();
+    }
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (--load.xxx=값 형식의 인자, 나머지 인자는 내장 서버에 그대로 전달)
+ * - rate : 초당 요청 수 (모든 엔드포인트 합계). 요청은 일정 간격으로 예약되며, 응답을 기다리느라 늦어져도 예약 시각은 밀리지 않음
+ * - warmup / duration : 측정에서 제외할 준비 시간 / 측정 시간
+ * - concurrency : 동시에 보낼 수 있는 최대 요청 수
+ * - users : 요청할 사용자 수, distribution : 사용자 분포 (uniform | zipf | single), zipf-exponent : Zipf 분포의 지수
+ * - mix : 엔드포인트별 요청 비율 (예: point:40,charge:25,use:25,histories:10)
+ * - amount : 충전/사용 금액, initial-point : 측정 전 모든 사용자에게 충전해 두는 포인트
+ * - report-directory : 엔드포인트별 지연 분포(.hgrm)를 남길 디렉터리
+ */
+record LoadTestOptions(
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int concurrency,
+        int users,
+        UserIdSampler.Distribution distribution,
+        double zipfExponent,
+        Map<Endpoint, Integer> mix,
+        long amount,
+        long initialPoint,
+        Path reportDirectory,
+        List<String> serverArgs
+) {
+    private static final String PREFIX = "--load.";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        List<String> serverArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            if (!arg.startsWith(PREFIX)) {
+                serverArgs.add(arg);
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("부하 테스트 인자는 --load.이름=값 형식이어야 합니다. arg=" + arg);
+            }
+            values.put(arg.substring(PREFIX.length(), separator), arg.substring(separator + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "5s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "30s")),
+                Integer.parseInt(values.getOrDefault("concurrency", "256")),
+                Integer.parseInt(values.getOrDefault("users", "1000")),
+                UserIdSampler.Distribution.valueOf(values.getOrDefault("distribution", "uniform").toUpperCase()),
+                Double.parseDouble(values.getOrDefault("zipf-exponent", "1.0")),
+                parseMix(values.getOrDefault("mix", "point:40,charge:25,use:25,histories:10")),
+                Long.parseLong(values.getOrDefault("amount", "100")),
+                Long.parseLong(values.getOrDefault("initial-point", "50000")),
+                Path.of(values.getOrDefault("report-directory", "build/reports/loadtest")),
+                List.copyOf(serverArgs)
+        );
+        values.keySet().removeAll(List.of("rate", "warmup", "duration", "concurrency", "users", "distribution",
+                "zipf-exponent", "mix", "amount", "initial-point", "report-directory"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 부하 테스트 인자입니다. " + values.keySet());
+        }
+        if (options.rate <= 0 || options.concurrency <= 0 || options.users <= 0) {
+            throw new IllegalArgumentException("rate, concurrency, users 는 0보다 커야 합니다.");
+        }
+        return options;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix 는 엔드포인트:비율 목록이어야 합니다. mix=" + mix);
+            }
+            weights.put(Endpoint.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix 비율의 합은 0보다 커야 합니다. mix=" + mix);
+        }
+        return weights;
+    }
+}
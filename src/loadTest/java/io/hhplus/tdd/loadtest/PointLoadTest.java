@@ -0,0 +1,195 @@
+package io.hhplus.tdd.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.TddApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 포인트 API 부하 테스트
+ * - 임의 포트로 내장 서버를 띄우고, 설정한 비율(rate)로 요청을 예약하여 보내는 개방형(open-loop) 부하를 검
+ * - 지연은 예약 시각부터 재므로 서버가 느려져 요청이 밀려도 밀린 시간이 지연에 포함됨
+ * - 준비 시간(warmup) 이후의 요청만 집계하여, 엔드포인트별 처리량과 p50/p99/p999 지연을 출력하고 지연 분포(.hgrm)를 남김
+ */
+public class PointLoadTest {
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final LoadTestOptions options;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+    PointLoadTest(LoadTestOptions options) {
+        this.options = options;
+        options.mix().keySet().forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<String> serverArgs = new ArrayList<>(options.serverArgs());
+        serverArgs.add("--server.port=0");
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(TddApplication.class, serverArgs.toArray(String[]::new))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            new PointLoadTest(options).run(URI.create("http://localhost:" + port));
+        }
+    }
+
+    void run(URI baseUri) throws IOException, InterruptedException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).connectTimeout(Duration.ofSeconds(10)).build()) {
+            seed(client, baseUri, executor);
+            long dispatchLagNanos = drive(client, baseUri, executor);
+            report(dispatchLagNanos);
+        }
+    }
+
+    /**
+     * 사용 요청이 잔액 부족으로 거절되지 않도록 모든 사용자에게 포인트를 충전해 둡니다. (측정에 포함하지 않음)
+     */
+    private void seed(HttpClient client, URI baseUri, ExecutorService executor) throws InterruptedException {
+        System.out.printf("사용자 %d 명에게 %d 포인트를 충전합니다.%n", options.users(), options.initialPoint());
+        Semaphore inFlight = new Semaphore(options.concurrency());
+        for (long userId = 1; userId <= options.users(); userId++) {
+            long target = userId;
+            inFlight.acquire();
+            executor.execute(() -> {
+                try {
+                    client.send(Endpoint.CHARGE.request(baseUri, target, options.initialPoint()), HttpResponse.BodyHandlers.discarding());
+                } catch (IOException e) {
+                    System.err.printf("충전에 실패했습니다. userId=%d, %s%n", target, e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+        inFlight.acquire(options.concurrency());
+    }
+
+    /**
+     * 요청을 일정 간격으로 예약하여 보냅니다. 동시 요청이 concurrency 에 도달하면 자리가 날 때까지 기다리며,
+     * 기다린 시간도 예약 시각부터 재는 지연에 포함됩니다. 예약 시각보다 늦게 보낸 최대 시간을 반환합니다.
+     */
+    private long drive(HttpClient client, URI baseUri, ExecutorService executor) throws InterruptedException {
+        System.out.printf("%d req/s 로 준비 %ds, 측정 %ds 동안 요청합니다. (동시 요청 최대 %d, 사용자 %d 명 %s 분포)%n",
+                options.rate(), options.warmup().toSeconds(), options.duration().toSeconds(),
+                options.concurrency(), options.users(), options.distribution());
+        Semaphore inFlight = new Semaphore(options.concurrency());
+        UserIdSampler sampler = new UserIdSampler(options.distribution(), options.users(), options.zipfExponent());
+        Endpoint[] endpoints = weightedEndpoints();
+        SplittableRandom random = new SplittableRandom();
+
+        double intervalNanos = 1_000_000_000.0 / options.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        long maxLagNanos = 0;
+        for (long sequence = 0; ; sequence++) {
+            long scheduled = start + (long) (sequence * intervalNanos);
+            if (scheduled >= end) {
+                break;
+            }
+            long waitNanos = scheduled - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            Endpoint endpoint = endpoints[random.nextInt(endpoints.length)];
+            long userId = sampler.next(random);
+            inFlight.acquire();
+            maxLagNanos = Math.max(maxLagNanos, System.nanoTime() - scheduled);
+            EndpointStats endpointStats = scheduled >= measureFrom ? stats.get(endpoint) : null;
+            executor.execute(() -> {
+                int status = 0;
+                String errorCode = null;
+                try {
+                    HttpResponse<String> response = client.send(endpoint.request(baseUri, userId, options.amount()), HttpResponse.BodyHandlers.ofString());
+                    status = response.statusCode();
+                    if (status >= 400) {
+                        errorCode = errorCode(response.body());
+                    }
+                } catch (IOException e) {
+                    // 전송 실패는 status 0 으로 집계
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    if (endpointStats != null) {
+                        endpointStats.record(System.nanoTime() - scheduled, status, errorCode);
+                    }
+                    inFlight.release();
+                }
+            });
+        }
+        // 측정 구간에 예약한 요청이 모두 끝날 때까지 대기
+        inFlight.acquire(options.concurrency());
+        return maxLagNanos;
+    }
+
+    private static String errorCode(String body) {
+        try {
+            return OBJECT_MAPPER.readValue(body, ErrorResponse.class).code();
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private Endpoint[] weightedEndpoints() {
+        List<Endpoint> endpoints = new ArrayList<>();
+        options.mix().forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                endpoints.add(endpoint);
+            }
+        });
+        return endpoints.toArray(Endpoint[]::new);
+    }
+
+    private void report(long dispatchLagNanos) throws IOException {
+        double seconds = options.duration().toNanos() / 1_000_000_000.0;
+        Files.createDirectories(options.reportDirectory());
+        System.out.println();
+        System.out.printf("%-10s %9s %9s %9s %11s %10s %10s %10s %10s%n",
+                "endpoint", "success", "rejected", "failed", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            Histogram histogram = endpointStats.histogram();
+            System.out.printf("%-10s %9d %9d %9d %11.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    entry.getKey().name().toLowerCase(),
+                    endpointStats.successCount(),
+                    endpointStats.rejectedCount(),
+                    endpointStats.failedCount(),
+                    histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                    histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                    histogram.getMaxValue() / MICROS_PER_MILLI);
+            try (PrintStream out = new PrintStream(Files.newOutputStream(options.reportDirectory().resolve(entry.getKey().name().toLowerCase() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+        System.out.printf("%n예약 시각보다 늦게 보낸 최대 시간: %.2fms (크면 부하 생성기가 rate 를 따라가지 못한 것이므로 결과 해석에 주의)%n",
+                dispatchLagNanos / 1_000_000.0);
+        System.out.printf("지연 분포: %s%n", options.reportDirectory().toAbsolutePath());
+    }
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 요청할 사용자 id(1 ~ users)를 분포에 따라 뽑음
+ * - UNIFORM : 모든 사용자가 같은 확률
+ * - ZIPF : 순위 k 사용자의 확률이 1/k^exponent 에 비례 (소수 사용자에게 요청이 몰림)
+ * - SINGLE : 모든 요청이 한 사용자에게 몰림
+ */
+class UserIdSampler {
+    enum Distribution {
+        UNIFORM, ZIPF, SINGLE
+    }
+
+    private final Distribution distribution;
+    private final int users;
+    private final double[] cumulative;
+
+    UserIdSampler(Distribution distribution, int users, double zipfExponent) {
+        this.distribution = distribution;
+        this.users = users;
+        this.cumulative = distribution == Distribution.ZIPF ? zipfCumulative(users, zipfExponent) : null;
+    }
+
+    long next(SplittableRandom random) {
+        return switch (distribution) {
+            case UNIFORM -> random.nextLong(1, users + 1L);
+            case SINGLE -> 1L;
+            case ZIPF -> {
+                int index = Arrays.binarySearch(cumulative, random.nextDouble() * cumulative[users - 1]);
+                yield (index < 0 ? -index - 1 : index) + 1L;
+            }
+        };
+    }
+
+    private static double[] zipfCumulative(int users, double exponent) {
+        double[] cumulative = new double[users];
+        double sum = 0;
+        for (int rank = 1; rank <= users; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        return cumulative;
+    }
+}
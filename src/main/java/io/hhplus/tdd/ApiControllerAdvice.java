@@ -1,12 +1,40 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.LockProperties;
+import io.hhplus.tdd.point.LockTimeoutException;
+import io.hhplus.tdd.point.PointValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    private final LockProperties lockProperties;
+
+    /**
+     * 사용자 락을 기한 안에 얻지 못한 요청은 429 와 Retry-After(초) 로 거절
+     */
+    @ExceptionHandler(value = LockTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleLockTimeout(LockTimeoutException e) {
+        long retryAfterSeconds = Math.max(1, (lockProperties.retryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ErrorResponse("429", e.getMessage()));
+    }
+
+    /**
+     * 포인트 검증 실패(잔액 부족 등)는 다른 예외처럼 500 으로 응답하되, code 에 거절 사유를 담아 서버 오류와 구분할 수 있게 함
+     */
+    @ExceptionHandler(value = PointValidationException.class)
+    public ResponseEntity<ErrorResponse> handlePointValidation(PointValidationException e) {
+        return ResponseEntity.status(500).body(new ErrorResponse(e.getReason().name(), e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
@@ -0,0 +1,144 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.HistoryStore;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 열(column) 단위 포인트 이력 저장소
+ * - PointHistoryTable 은 이력마다 PointHistory 객체를 만들어 보관하므로 이력 수만큼 객체가 쌓여 GC 부담이 커짐
+ * - 이력을 userId/amount/updateMillis 는 long[], 종류는 byte[] 열에 나누어 보관하고, 조회할 때만 PointHistory 를 만들어 반환
+ * - id 는 PointHistoryTable 과 같이 1부터 순서대로 부여하므로 따로 보관하지 않고 행 번호로 계산 (id = 행 번호 + 1)
+ * - 열은 고정 크기 청크로 늘려 가므로, 이력이 늘어도 기존 배열을 복사하지 않음
+ * - 사용자별 조회를 위해 사용자마다 행 번호(int[]) 목록을 둠
+ */
+public class ColumnarPointHistoryStore implements HistoryStore {
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    // 추가는 잠금으로 직렬화하고(가상 스레드 고정을 피하기 위해 ReentrantLock), 조회는 잠금 없이 수행
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ConcurrentHashMap<Long, UserRows> rowsByUser = new ConcurrentHashMap<>();
+    private volatile Chunk[] chunks = new Chunk[0];
+    private volatile int size;
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        UserRows userRows = rowsByUser.computeIfAbsent(userId, k -> new UserRows());
+        appendLock.lock();
+        try {
+            int row = size;
+            if (row == Integer.MAX_VALUE) {
+                throw new IllegalStateException("이력 저장소가 가득 찼습니다.");
+            }
+            Chunk[] current = chunks;
+            int chunkIndex = row >>> CHUNK_BITS;
+            if (chunkIndex == current.length) {
+                current = Arrays.copyOf(current, current.length + 1);
+                current[chunkIndex] = new Chunk();
+                chunks = current;
+            }
+            current[chunkIndex].set(row & CHUNK_MASK, userId, amount, type, updateMillis);
+            size = row + 1;
+            // 행을 다 쓴 뒤에 사용자 목록에 추가해야 조회하는 쪽이 채워지지 않은 행을 보지 않음
+            userRows.append(row);
+            return new PointHistory(row + 1L, userId, amount, type, updateMillis);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 사용자의 이력을 기록된 순서대로 반환합니다.
+     * 반환된 목록은 조회하는 항목만 PointHistory 로 만드는 보기이며, 이후 추가되는 이력의 영향을 받지 않습니다.
+     */
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserRows userRows = rowsByUser.get(userId);
+        if (userRows == null) {
+            return List.of();
+        }
+        int count = userRows.size;
+        return new HistoryView(chunks, userRows.rows, count);
+    }
+
+    @Override
+    public PointHistoryPage selectPageByUserId(long userId, long cursor, int limit, long from, long to) {
+        return PointHistoryPage.slice(selectAllByUserId(userId), cursor, limit, from, to);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static class Chunk {
+        private final long[] userIds = new long[CHUNK_SIZE];
+        private final long[] amounts = new long[CHUNK_SIZE];
+        private final long[] updateMillis = new long[CHUNK_SIZE];
+        private final byte[] types = new byte[CHUNK_SIZE];
+
+        private void set(int index, long userId, long amount, TransactionType type, long millis) {
+            userIds[index] = userId;
+            amounts[index] = amount;
+            updateMillis[index] = millis;
+            types[index] = (byte) type.ordinal();
+        }
+    }
+
+    /**
+     * 한 사용자의 행 번호 목록 (appendLock 안에서만 추가)
+     * - [0, size) 구간은 한 번 쓰이면 바뀌지 않으므로, size 를 먼저 읽으면 잠금 없이 읽을 수 있음
+     */
+    private static class UserRows {
+        private volatile int[] rows = new int[4];
+        private volatile int size;
+
+        private void append(int row) {
+            int[] current = rows;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+                rows = current;
+            }
+            current[size] = row;
+            size = size + 1;
+        }
+    }
+
+    private static class HistoryView extends AbstractList<PointHistory> implements RandomAccess {
+        private final Chunk[] chunks;
+        private final int[] rows;
+        private final int size;
+
+        private HistoryView(Chunk[] chunks, int[] rows, int size) {
+            this.chunks = chunks;
+            this.rows = rows;
+            this.size = size;
+        }
+
+        @Override
+        public PointHistory get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            int row = rows[index];
+            Chunk chunk = chunks[row >>> CHUNK_BITS];
+            int offset = row & CHUNK_MASK;
+            return new PointHistory(row + 1L, chunk.userIds[offset], chunk.amounts[offset], TYPES[chunk.types[offset]], chunk.updateMillis[offset]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.hhplus.tdd.database.wal;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 여러 이력 목록을 순서대로 이어 붙인 보기 (스냅숏 세그먼트들 + 메모리 이력)
+ */
+class ConcatenatedHistories extends AbstractList<PointHistory> implements RandomAccess {
+    private final List<List<PointHistory>> parts;
+    // starts[i] = parts[i] 의 첫 이력 위치
+    private final int[] starts;
+    private final int size;
+
+    private ConcatenatedHistories(List<List<PointHistory>> parts) {
+        this.parts = parts;
+        this.starts = new int[parts.size()];
+        int size = 0;
+        for (int i = 0; i < parts.size(); i++) {
+            starts[i] = size;
+            size += parts.get(i).size();
+        }
+        this.size = size;
+    }
+
+    /**
+     * 비어있지 않은 목록이 하나뿐이면 그 목록을 그대로 반환합니다.
+     */
+    static List<PointHistory> of(List<List<PointHistory>> parts) {
+        List<List<PointHistory>> nonEmpty = parts.stream().filter(part -> !part.isEmpty()).toList();
+        if (nonEmpty.isEmpty()) {
+            return List.of();
+        }
+        return nonEmpty.size() == 1 ? nonEmpty.get(0) : new ConcatenatedHistories(nonEmpty);
+    }
+
+    @Override
+    public PointHistory get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int low = 0;
+        int high = starts.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (starts[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return parts.get(low).get(index - starts[low]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
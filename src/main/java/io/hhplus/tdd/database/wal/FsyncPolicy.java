@@ -0,0 +1,11 @@
+package io.hhplus.tdd.database.wal;
+
+/**
+ * 로그를 디스크에 강제로 기록(fsync)하는 시점
+ * - ALWAYS : 기록할 때마다 fsync. 가장 안전하지만 기록이 fsync 단위로 직렬화됨
+ * - BATCH : 동시에 기록한 요청을 모아 한 번에 fsync (그룹 커밋). 반환 시점에는 ALWAYS 와 같이 디스크에 기록되어 있음
+ * - NEVER : fsync 하지 않고 운영체제에 맡김. 프로세스가 죽어도 남지만 장비가 죽으면 최근 기록을 잃을 수 있음
+ */
+public enum FsyncPolicy {
+    ALWAYS, BATCH, NEVER
+}
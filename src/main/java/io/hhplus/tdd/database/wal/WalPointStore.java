@@ -0,0 +1,276 @@
+package io.hhplus.tdd.database.wal;
+
+import io.hhplus.tdd.point.BalanceStore;
+import io.hhplus.tdd.point.HistoryStore;
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryIndex;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointTransactionStore;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 로그 기반 포인트/이력 저장소
+ * - 변경은 로그에 먼저 기록한 뒤 메모리에 반영하고, 시작할 때 스냅숏과 그 이후의 로그만 읽어 포인트와 이력을 복구
+ * - 스냅숏 이전의 이력은 스냅숏의 이력 세그먼트에서, 이후의 이력은 메모리에서 조회 (스냅숏을 남기면 메모리에서는 지움)
+ * - 이력 id 는 로그 순번을 그대로 사용하므로 재시작 후에도 같은 이력은 같은 id 를 가짐
+ * - 같은 사용자의 변경은 사용자 락 안에서 호출해야 로그와 메모리의 순서가 같음
+ * - 충전/사용 한 건은 포인트와 이력을 레코드 하나로 기록 (내구성 대기도 한 번)
+ * - 그룹 커밋으로 묶인 명령은 명령마다 레코드 하나씩을 이어서 기록하고 내구성은 묶음당 한 번만 기다림
+ */
+public class WalPointStore implements BalanceStore, HistoryStore, PointTransactionStore {
+    private static final Logger log = LoggerFactory.getLogger(WalPointStore.class);
+
+    private final WalProperties properties;
+    private final ConcurrentHashMap<Long, UserPoint> balances = new ConcurrentHashMap<>();
+    // 스냅숏 이후의 이력 (새 스냅숏을 공개한 뒤 잘라낸 목록으로 바꾸기 전까지는 스냅숏 이전 이력도 남아있으므로, 조회할 때 스냅숏 순번 이후만 사용)
+    private volatile PointHistoryIndex recentHistories = new PointHistoryIndex();
+    private final LongAdder historyCount = new LongAdder();
+    // 기록(로그 기록 + 메모리 반영)은 읽기 락, 스냅숏 순번을 정하는 순간과 메모리 이력을 잘라낸 목록으로 바꾸는 순간만 쓰기 락
+    private final ReentrantReadWriteLock applyLock = new ReentrantReadWriteLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private volatile WalSnapshot snapshot = WalSnapshot.EMPTY;
+    private WriteAheadLog writeAheadLog;
+    private ScheduledExecutorService snapshotScheduler;
+
+    public WalPointStore(WalProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!properties.enabled()) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        Files.createDirectories(properties.directory());
+        WalSnapshot.deleteTemporaryFiles(properties.directory());
+        writeAheadLog = new WriteAheadLog(
+                properties.directory(),
+                (int) properties.segmentSize().toBytes(),
+                properties.fsync(),
+                properties.groupCommitDelay()
+        );
+        snapshot = WalSnapshot.loadLatest(properties.directory(), userPoint -> balances.put(userPoint.id(), userPoint));
+        writeAheadLog.replay(snapshot.sequence(), this::apply);
+        log.info("포인트 로그를 복구했습니다. snapshotSequence={}, users={}, replayedHistories={}, elapsed={}ms",
+                snapshot.sequence(), balances.size(), historyCount.sum(), (System.nanoTime() - startNanos) / 1_000_000);
+
+        long intervalMillis = properties.snapshotInterval().toMillis();
+        if (intervalMillis > 0) {
+            snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "point-wal-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshotScheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return balances.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        applyLock.readLock().lock();
+        try {
+            writeAheadLog.append(WalRecord.balance(id, amount, userPoint.updateMillis()));
+            balances.put(id, userPoint);
+        } finally {
+            applyLock.readLock().unlock();
+        }
+        return userPoint;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        applyLock.readLock().lock();
+        try {
+            long sequence = writeAheadLog.append(WalRecord.history(userId, amount, type, updateMillis));
+            PointHistory pointHistory = new PointHistory(sequence, userId, amount, type, updateMillis);
+            recentHistories.append(pointHistory);
+            historyCount.increment();
+            return pointHistory;
+        } finally {
+            applyLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdateWithHistory(long userId, long point, long amount, TransactionType type, long updateMillis) {
+        UserPoint userPoint = new UserPoint(userId, point, updateMillis);
+        applyLock.readLock().lock();
+        try {
+            long sequence = writeAheadLog.append(WalRecord.transaction(userId, amount, type, point, updateMillis));
+            balances.put(userId, userPoint);
+            recentHistories.append(new PointHistory(sequence, userId, amount, type, updateMillis));
+            historyCount.increment();
+        } finally {
+            applyLock.readLock().unlock();
+        }
+        return userPoint;
+    }
+
+    /**
+     * 묶인 명령마다 포인트와 이력을 담은 레코드를 하나씩 이어서 기록하고, 내구성은 한 번만 기다립니다.
+     * 레코드마다 그 명령 직후의 포인트를 담으므로, 중간에 중단되어 앞부분만 남아도 포인트와 이력은 어긋나지 않습니다.
+     */
+    @Override
+    public UserPoint insertOrUpdateWithHistories(long userId, List<PointCommand> commands, List<Long> points, long updateMillis) {
+        List<WalRecord> records = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            PointCommand command = commands.get(i);
+            records.add(WalRecord.transaction(userId, command.amount(), command.type(), points.get(i), updateMillis));
+        }
+        UserPoint userPoint = new UserPoint(userId, points.get(points.size() - 1), updateMillis);
+        applyLock.readLock().lock();
+        try {
+            long sequence = writeAheadLog.appendAll(records) - records.size();
+            balances.put(userId, userPoint);
+            for (PointCommand command : commands) {
+                recentHistories.append(new PointHistory(++sequence, userId, command.amount(), command.type(), updateMillis));
+            }
+            historyCount.add(commands.size());
+        } finally {
+            applyLock.readLock().unlock();
+        }
+        return userPoint;
+    }
+
+    /**
+     * 사용자의 이력을 기록된 순서대로 반환합니다. (스냅숏 이력 세그먼트와 메모리 이력을 이어 붙인 보기)
+     */
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        // 스냅숏을 공개한 뒤에 메모리 이력을 자르므로, 메모리 이력을 먼저 읽어야 잘린 목록과 이전 스냅숏을 함께 보지 않음
+        PointHistoryIndex recentIndex = recentHistories;
+        WalSnapshot current = snapshot;
+        List<PointHistory> recent = recentIndex.selectAllByUserId(userId);
+        recent = recent.subList(PointHistoryPage.firstIdAfter(recent, current.sequence()), recent.size());
+        return ConcatenatedHistories.of(List.of(current.histories(userId), recent));
+    }
+
+    @Override
+    public PointHistoryPage selectPageByUserId(long userId, long cursor, int limit, long from, long to) {
+        return PointHistoryPage.slice(selectAllByUserId(userId), cursor, limit, from, to);
+    }
+
+    /**
+     * 현재 로그 순번 시점의 스냅숏을 남기고, 스냅숏에 모두 담긴 메모리 이력과 로그 세그먼트를 지웁니다.
+     * 기록은 스냅숏 순번을 정하는 순간과 메모리 이력을 바꾸는 순간만 기다리고, 스냅숏을 쓰는 동안에는 멈추지 않습니다.
+     */
+    public void snapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            long sequence;
+            applyLock.writeLock().lock();
+            try {
+                sequence = writeAheadLog.getAppendedSequence();
+            } finally {
+                applyLock.writeLock().unlock();
+            }
+            if (sequence == snapshot.sequence()) {
+                return;
+            }
+
+            long startNanos = System.nanoTime();
+            snapshot = WalSnapshot.write(properties.directory(), sequence, snapshot, balances, recentHistories);
+            trimRecentHistories(sequence);
+            WalSnapshot.deleteUnreferenced(properties.directory(), snapshot);
+            int deletedSegments = writeAheadLog.deleteSegmentsBefore(sequence);
+            log.info("포인트 스냅숏을 남겼습니다. sequence={}, users={}, historySegments={}, deletedSegments={}, elapsed={}ms",
+                    sequence, snapshot.userCount(), snapshot.segmentCount(), deletedSegments, (System.nanoTime() - startNanos) / 1_000_000);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    public long getSnapshotSequence() {
+        return snapshot.sequence();
+    }
+
+    /**
+     * 메모리에 남아있는 이력 수 (스냅숏에 담긴 이력은 지워지므로 마지막 스냅숏 이후의 이력만 남음)
+     */
+    public long getRecentHistoryCount() {
+        PointHistoryIndex recentIndex = recentHistories;
+        long count = 0;
+        for (Long userId : recentIndex.getUserIds()) {
+            count += recentIndex.selectAllByUserId(userId).size();
+        }
+        return count;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+        }
+        if (writeAheadLog != null) {
+            writeAheadLog.close();
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (Exception e) {
+            log.warn("포인트 스냅숏을 남기지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 스냅숏에 담긴(sequence 이하) 이력을 메모리에서 지웁니다.
+     * 남길 이력(스냅숏을 쓰는 동안 쌓인 것)만 새 목록으로 옮겨 바꾸고, 옮기는 동안 기록이 끼어들지 않도록 쓰기 락을 잡습니다.
+     */
+    private void trimRecentHistories(long sequence) {
+        applyLock.writeLock().lock();
+        try {
+            PointHistoryIndex current = recentHistories;
+            PointHistoryIndex trimmed = new PointHistoryIndex();
+            for (Long userId : current.getUserIds()) {
+                List<PointHistory> histories = current.selectAllByUserId(userId);
+                for (int i = PointHistoryPage.firstIdAfter(histories, sequence); i < histories.size(); i++) {
+                    trimmed.append(histories.get(i));
+                }
+            }
+            recentHistories = trimmed;
+        } finally {
+            applyLock.writeLock().unlock();
+        }
+    }
+
+    private void apply(WalRecord record, long sequence) {
+        if (record.changesBalance()) {
+            balances.put(record.userId(), new UserPoint(record.userId(), record.balance(), record.updateMillis()));
+        }
+        if (record.recordsHistory()) {
+            recentHistories.append(new PointHistory(sequence, record.userId(), record.value(), record.transactionType(), record.updateMillis()));
+            historyCount.increment();
+        }
+    }
+}
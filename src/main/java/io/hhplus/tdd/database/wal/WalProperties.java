@@ -0,0 +1,28 @@
+package io.hhplus.tdd.database.wal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 포인트 로그(write-ahead log) 설정
+ * - enabled : 포인트와 이력을 로그에 기록하고, 시작할 때 로그를 재생하여 복구할지 여부
+ * - directory : 로그 세그먼트 파일을 둘 디렉터리
+ * - segmentSize : 세그먼트 파일 하나의 크기 (가득 차면 다음 세그먼트로 넘어감)
+ * - fsync : 디스크에 강제로 기록하는 시점
+ * - groupCommitDelay : BATCH 에서 fsync 전에 다른 기록을 더 모으기 위해 기다리는 시간
+ * - snapshotInterval : 스냅숏을 남기는 주기 (스냅숏 이전의 로그 세그먼트는 지움). 0 이면 남기지 않음
+ */
+@ConfigurationProperties(prefix = "point.wal")
+public record WalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/wal") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("BATCH") FsyncPolicy fsync,
+        @DefaultValue("0ms") Duration groupCommitDelay,
+        @DefaultValue("5m") Duration snapshotInterval
+) {
+}
@@ -0,0 +1,64 @@
+package io.hhplus.tdd.database.wal;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 로그에 기록하는 한 건
+ * - BALANCE : 사용자 포인트 변경 (value, balance = 변경 후 포인트)
+ * - CHARGE, USE : 포인트 이력 (value = 충전/사용 포인트)
+ * - CHARGE_TRANSACTION, USE_TRANSACTION : 충전/사용 한 건 (value = 충전/사용 포인트, balance = 변경 후 포인트)
+ *   재생할 때 포인트와 이력을 함께 반영하므로, 중간에 중단되어도 포인트만 바뀌고 이력이 없는 상태가 남지 않음
+ */
+public record WalRecord(
+        Kind kind,
+        long userId,
+        long value,
+        long balance,
+        long updateMillis
+) {
+    public enum Kind {
+        BALANCE, CHARGE, USE, CHARGE_TRANSACTION, USE_TRANSACTION;
+
+        public static Kind of(TransactionType type) {
+            return type == TransactionType.CHARGE ? CHARGE : USE;
+        }
+
+        public static Kind transactionOf(TransactionType type) {
+            return type == TransactionType.CHARGE ? CHARGE_TRANSACTION : USE_TRANSACTION;
+        }
+    }
+
+    public static WalRecord balance(long userId, long point, long updateMillis) {
+        return new WalRecord(Kind.BALANCE, userId, point, point, updateMillis);
+    }
+
+    public static WalRecord history(long userId, long amount, TransactionType type, long updateMillis) {
+        return new WalRecord(Kind.of(type), userId, amount, 0, updateMillis);
+    }
+
+    public static WalRecord transaction(long userId, long amount, TransactionType type, long point, long updateMillis) {
+        return new WalRecord(Kind.transactionOf(type), userId, amount, point, updateMillis);
+    }
+
+    /**
+     * 재생할 때 사용자 포인트를 balance 로 바꿔야 하는 레코드인지 여부
+     */
+    public boolean changesBalance() {
+        return kind == Kind.BALANCE || kind == Kind.CHARGE_TRANSACTION || kind == Kind.USE_TRANSACTION;
+    }
+
+    /**
+     * 재생할 때 포인트 이력을 남겨야 하는 레코드인지 여부
+     */
+    public boolean recordsHistory() {
+        return kind != Kind.BALANCE;
+    }
+
+    public TransactionType transactionType() {
+        return switch (kind) {
+            case CHARGE, CHARGE_TRANSACTION -> TransactionType.CHARGE;
+            case USE, USE_TRANSACTION -> TransactionType.USE;
+            case BALANCE -> throw new IllegalStateException("포인트 변경 기록에는 트랜잭션 종류가 없습니다.");
+        };
+    }
+}
@@ -0,0 +1,432 @@
+package io.hhplus.tdd.database.wal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryIndex;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 로그 순번 sequence 시점의 포인트 스냅숏
+ * - snapshot-{sequence}.bin : 사용자별 포인트와, 이 스냅숏이 참조하는 이력 세그먼트 목록. 끝에 CRC32C
+ * - history-{sequence}-{part}.bin : 이전 스냅숏 순번 이후 sequence 까지의 이력만 사용자 순으로 모아 둔 세그먼트 (추가 전용)
+ *   [사용자 수(4)][userId(8), 시작 위치(8), 개수(4)]... 뒤에 [id(8)][amount(8)][updateMillis(8)][종류(1)]...
+ * - 스냅숏마다 새 구간의 이력만 세그먼트로 쓰므로, 스냅숏 비용은 그 사이에 쌓인 이력 수에만 비례
+ * - 세그먼트 하나는 한 번에 매핑할 수 있는 크기(2GB)를 넘지 않도록 사용자 단위로 나누어 씀
+ * - 세그먼트가 MAX_SEGMENT_COUNT 개를 넘게 되면 새 구간과 이전 세그먼트를 모두 합친 세그먼트를 새로 써서 바꿈
+ *   (조회할 때 읽는 세그먼트 수와 매핑한 파일 수가 계속 늘지 않도록)
+ * - 시작할 때는 스냅숏 파일과 세그먼트의 사용자 목록만 읽고, 이력은 메모리에 매핑만 해 두었다가 조회할 때 해당 사용자 구간만 읽음
+ * - 세그먼트를 먼저 쓰고 스냅숏 파일을 마지막에 원자적으로 옮기므로, 스냅숏 파일이 보이면 참조하는 세그먼트도 완전함
+ * - 파일을 옮긴 뒤에는 디렉터리도 fsync 하므로, write 가 반환된 뒤에는 스냅숏이 대신하는 로그 세그먼트를 지워도 됨
+ */
+class WalSnapshot {
+    private static final int MAGIC = 0x57414c53;
+    private static final int VERSION = 2;
+    private static final int HISTORY_ENTRY_SIZE = Long.BYTES * 3 + 1;
+    private static final int SEGMENT_INDEX_ENTRY_SIZE = Long.BYTES * 2 + Integer.BYTES;
+    static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+    static final int MAX_SEGMENT_COUNT = 8;
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String HISTORY_PREFIX = "history-";
+    private static final String SUFFIX = ".bin";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    static final WalSnapshot EMPTY = new WalSnapshot(0, 0, List.of());
+
+    private final long sequence;
+    private final int userCount;
+    // 오래된 세그먼트부터
+    private final List<HistorySegment> segments;
+
+    private WalSnapshot(long sequence, int userCount, List<HistorySegment> segments) {
+        this.sequence = sequence;
+        this.userCount = userCount;
+        this.segments = segments;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    int userCount() {
+        return userCount;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * 스냅숏에 담긴 사용자의 이력을 기록된 순서대로 반환합니다. (세그먼트를 그대로 읽는 보기)
+     */
+    List<PointHistory> histories(long userId) {
+        List<List<PointHistory>> parts = new ArrayList<>(1);
+        for (HistorySegment segment : segments) {
+            List<PointHistory> histories = segment.histories(userId);
+            if (!histories.isEmpty()) {
+                parts.add(histories);
+            }
+        }
+        return ConcatenatedHistories.of(parts);
+    }
+
+    /**
+     * 가장 최근 스냅숏을 읽습니다. 스냅숏의 포인트는 balanceConsumer 로 넘기고, 스냅숏이 없으면 EMPTY 를 반환합니다.
+     */
+    static WalSnapshot loadLatest(Path directory, Consumer<UserPoint> balanceConsumer) throws IOException {
+        List<Path> snapshots = list(directory, SNAPSHOT_PREFIX);
+        if (snapshots.isEmpty()) {
+            return EMPTY;
+        }
+        Path snapshotPath = snapshots.get(snapshots.size() - 1);
+        long sequence = Long.parseLong(baseName(snapshotPath, SNAPSHOT_PREFIX));
+
+        CRC32C crc = new CRC32C();
+        List<String> segmentNames = new ArrayList<>();
+        int userCount;
+        // CRC 는 실제로 읽은 바이트만 계산하도록 버퍼 바깥에 둠
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshotPath), 1 << 16), crc))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != sequence) {
+                throw new IllegalStateException("스냅숏 파일 형식이 올바르지 않습니다. path=" + snapshotPath);
+            }
+            int segmentCount = in.readInt();
+            for (int i = 0; i < segmentCount; i++) {
+                segmentNames.add(segmentName(in.readLong(), in.readInt()));
+            }
+            userCount = in.readInt();
+            for (int i = 0; i < userCount; i++) {
+                long userId = in.readLong();
+                long point = in.readLong();
+                long updateMillis = in.readLong();
+                balanceConsumer.accept(new UserPoint(userId, point, updateMillis));
+            }
+            int expected = (int) crc.getValue();
+            if (in.readInt() != expected) {
+                throw new IllegalStateException("스냅숏 파일이 손상되었습니다. path=" + snapshotPath);
+            }
+        }
+        List<HistorySegment> segments = new ArrayList<>(segmentNames.size());
+        for (String segmentName : segmentNames) {
+            segments.add(HistorySegment.open(directory.resolve(segmentName)));
+        }
+        return new WalSnapshot(sequence, userCount, List.copyOf(segments));
+    }
+
+    static WalSnapshot write(Path directory, long sequence, WalSnapshot previous,
+                             Map<Long, UserPoint> balances, PointHistoryIndex recentHistories) throws IOException {
+        return write(directory, sequence, previous, balances, recentHistories, MAX_SEGMENT_SIZE, MAX_SEGMENT_COUNT);
+    }
+
+    /**
+     * sequence 시점의 스냅숏을 씁니다.
+     * 이력은 (이전 스냅숏 순번, sequence] 구간만 새 세그먼트로 쓰고 이전 세그먼트는 그대로 참조하며, 포인트는 현재 값을 씁니다.
+     * 이전 세그먼트가 이미 maxSegmentCount 개이면 이전 세그먼트와 새 구간을 합쳐 새 세그먼트로 쓰고, 이전 세그먼트는 참조하지 않습니다.
+     * 포인트에는 sequence 이후의 변경이 섞일 수 있지만, 시작할 때 sequence 이후의 로그를 순서대로 다시 반영하므로 결과는 같습니다.
+     */
+    static WalSnapshot write(Path directory, long sequence, WalSnapshot previous, Map<Long, UserPoint> balances,
+                             PointHistoryIndex recentHistories, long maxSegmentSize, int maxSegmentCount) throws IOException {
+        // 1. 이력 세그먼트 (새 구간만, 또는 이전 세그먼트와 합쳐서)
+        boolean merge = previous.segments.size() >= maxSegmentCount;
+        LongStream userIdStream = recentHistories.getUserIds().stream().mapToLong(Long::longValue);
+        if (merge) {
+            userIdStream = LongStream.concat(userIdStream, previous.segments.stream().flatMapToLong(segment -> Arrays.stream(segment.userIds)));
+        }
+        long[] historyUserIds = userIdStream.sorted().distinct().toArray();
+        List<HistorySegment> segments = new ArrayList<>(merge ? List.of() : previous.segments);
+        SegmentWriter writer = new SegmentWriter(directory, sequence, maxSegmentSize);
+        for (long userId : historyUserIds) {
+            List<PointHistory> recent = recentHistories.selectAllByUserId(userId);
+            recent = recent.subList(PointHistoryPage.firstIdAfter(recent, previous.sequence), PointHistoryPage.firstIdAfter(recent, sequence));
+            List<PointHistory> histories = merge ? ConcatenatedHistories.of(List.of(previous.histories(userId), recent)) : recent;
+            if (!histories.isEmpty()) {
+                writer.add(userId, histories, segments);
+            }
+        }
+        writer.flush(segments);
+        syncDirectory(directory);
+
+        // 2. 스냅숏 파일 (옮기는 순간 스냅숏이 완성됨)
+        long[] userIds = balances.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        Path snapshotPath = directory.resolve(SNAPSHOT_PREFIX + "%020d".formatted(sequence) + SUFFIX);
+        Path snapshotTemp = directory.resolve(snapshotPath.getFileName() + TEMP_SUFFIX);
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(snapshotTemp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(Channels.newOutputStream(channel), crc), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sequence);
+            out.writeInt(segments.size());
+            for (HistorySegment segment : segments) {
+                out.writeLong(segment.sequence);
+                out.writeInt(segment.part);
+            }
+            out.writeInt(userIds.length);
+            for (long userId : userIds) {
+                UserPoint userPoint = balances.get(userId);
+                out.writeLong(userId);
+                out.writeLong(userPoint.point());
+                out.writeLong(userPoint.updateMillis());
+            }
+            out.flush();
+            int checksum = (int) crc.getValue();
+            out.writeInt(checksum);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(snapshotTemp, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory(directory);
+
+        return new WalSnapshot(sequence, userIds.length, List.copyOf(segments));
+    }
+
+    /**
+     * current 이전의 스냅숏 파일과, current 가 참조하지 않는 이력 세그먼트(중단된 스냅숏이 남긴 것)를 지웁니다.
+     * 지운 파일을 매핑해 둔 이전 스냅숏은 매핑이 해제될 때까지 계속 읽을 수 있습니다.
+     */
+    static void deleteUnreferenced(Path directory, WalSnapshot current) throws IOException {
+        for (Path path : list(directory, SNAPSHOT_PREFIX)) {
+            if (Long.parseLong(baseName(path, SNAPSHOT_PREFIX)) < current.sequence) {
+                Files.deleteIfExists(path);
+            }
+        }
+        Set<String> referenced = new HashSet<>();
+        for (HistorySegment segment : current.segments) {
+            referenced.add(segmentName(segment.sequence, segment.part));
+        }
+        for (Path path : list(directory, HISTORY_PREFIX)) {
+            if (!referenced.contains(path.getFileName().toString())) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * 중단된 쓰기가 남긴 임시 파일(*.tmp)을 지웁니다. 스냅숏을 쓰기 전, 시작할 때 호출합니다.
+     */
+    static void deleteTemporaryFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.filter(file -> file.getFileName().toString().endsWith(TEMP_SUFFIX)).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * 디렉터리를 fsync 하여 그 안에서 옮긴 파일 이름이 디스크에 남도록 합니다.
+     */
+    private static void syncDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private static List<Path> list(Path directory, String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(prefix) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static String segmentName(long sequence, int part) {
+        return HISTORY_PREFIX + "%020d-%05d".formatted(sequence, part) + SUFFIX;
+    }
+
+    private static String baseName(Path path, String prefix) {
+        String name = path.getFileName().toString();
+        return name.substring(prefix.length(), name.length() - SUFFIX.length());
+    }
+
+    /**
+     * 한 스냅숏 구간의 이력을 세그먼트 크기 제한에 맞춰 여러 세그먼트로 나누어 씀
+     */
+    private static class SegmentWriter {
+        private final Path directory;
+        private final long sequence;
+        private final long maxSegmentSize;
+        private final List<Long> userIds = new ArrayList<>();
+        private final List<List<PointHistory>> histories = new ArrayList<>();
+        private long size = Integer.BYTES;
+        private int part;
+
+        private SegmentWriter(Path directory, long sequence, long maxSegmentSize) {
+            this.directory = directory;
+            this.sequence = sequence;
+            this.maxSegmentSize = maxSegmentSize;
+        }
+
+        private void add(long userId, List<PointHistory> userHistories, List<HistorySegment> written) throws IOException {
+            long userSize = SEGMENT_INDEX_ENTRY_SIZE + (long) userHistories.size() * HISTORY_ENTRY_SIZE;
+            if (Integer.BYTES + userSize > maxSegmentSize) {
+                throw new IllegalStateException("한 사용자의 이력이 세그먼트 하나에 담을 수 있는 크기를 넘습니다. userId=" + userId
+                        + ", histories=" + userHistories.size());
+            }
+            if (size + userSize > maxSegmentSize) {
+                flush(written);
+            }
+            userIds.add(userId);
+            histories.add(userHistories);
+            size += userSize;
+        }
+
+        private void flush(List<HistorySegment> written) throws IOException {
+            if (userIds.isEmpty()) {
+                return;
+            }
+            Path path = directory.resolve(segmentName(sequence, part));
+            Path temp = directory.resolve(path.getFileName() + TEMP_SUFFIX);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16))) {
+                out.writeInt(userIds.size());
+                long offset = 0;
+                for (int i = 0; i < userIds.size(); i++) {
+                    out.writeLong(userIds.get(i));
+                    out.writeLong(offset);
+                    out.writeInt(histories.get(i).size());
+                    offset += histories.get(i).size();
+                }
+                for (List<PointHistory> userHistories : histories) {
+                    for (PointHistory pointHistory : userHistories) {
+                        out.writeLong(pointHistory.id());
+                        out.writeLong(pointHistory.amount());
+                        out.writeLong(pointHistory.updateMillis());
+                        out.writeByte(pointHistory.type().ordinal());
+                    }
+                }
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            written.add(HistorySegment.open(path));
+
+            userIds.clear();
+            histories.clear();
+            size = Integer.BYTES;
+            part++;
+        }
+    }
+
+    /**
+     * 이력 세그먼트 하나 (파일 전체를 메모리에 매핑하고, 사용자 목록만 배열로 읽어 둠)
+     */
+    private static class HistorySegment {
+        private final long sequence;
+        private final int part;
+        // 사용자 id 순으로 정렬
+        private final long[] userIds;
+        private final long[] offsets;
+        private final int[] counts;
+        private final ByteBuffer archive;
+        private final int entriesStart;
+
+        private HistorySegment(long sequence, int part, long[] userIds, long[] offsets, int[] counts, ByteBuffer archive, int entriesStart) {
+            this.sequence = sequence;
+            this.part = part;
+            this.userIds = userIds;
+            this.offsets = offsets;
+            this.counts = counts;
+            this.archive = archive;
+            this.entriesStart = entriesStart;
+        }
+
+        private static HistorySegment open(Path path) throws IOException {
+            String[] name = baseName(path, HISTORY_PREFIX).split("-");
+            ByteBuffer archive;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                archive = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            int userCount = archive.getInt(0);
+            long[] userIds = new long[userCount];
+            long[] offsets = new long[userCount];
+            int[] counts = new int[userCount];
+            int position = Integer.BYTES;
+            for (int i = 0; i < userCount; i++) {
+                userIds[i] = archive.getLong(position);
+                offsets[i] = archive.getLong(position + Long.BYTES);
+                counts[i] = archive.getInt(position + Long.BYTES * 2);
+                position += SEGMENT_INDEX_ENTRY_SIZE;
+            }
+            return new HistorySegment(Long.parseLong(name[0]), Integer.parseInt(name[1]), userIds, offsets, counts, archive, position);
+        }
+
+        private List<PointHistory> histories(long userId) {
+            int index = Arrays.binarySearch(userIds, userId);
+            if (index < 0) {
+                return List.of();
+            }
+            return new ArchivedHistories(archive, entriesStart, userId, offsets[index], counts[index]);
+        }
+    }
+
+    /**
+     * 세그먼트의 한 사용자 구간을 그대로 읽는 목록
+     */
+    private static class ArchivedHistories extends AbstractList<PointHistory> implements RandomAccess {
+        private static final TransactionType[] TYPES = TransactionType.values();
+
+        private final ByteBuffer archive;
+        private final int entriesStart;
+        private final long userId;
+        private final long offset;
+        private final int size;
+
+        private ArchivedHistories(ByteBuffer archive, int entriesStart, long userId, long offset, int size) {
+            this.archive = archive;
+            this.entriesStart = entriesStart;
+            this.userId = userId;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public PointHistory get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            int position = Math.toIntExact(entriesStart + (offset + index) * HISTORY_ENTRY_SIZE);
+            return new PointHistory(
+                    archive.getLong(position),
+                    userId,
+                    archive.getLong(position + Long.BYTES),
+                    TYPES[archive.get(position + Long.BYTES * 3)],
+                    archive.getLong(position + Long.BYTES * 2)
+            );
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
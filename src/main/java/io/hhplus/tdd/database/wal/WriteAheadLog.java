@@ -0,0 +1,383 @@
+package io.hhplus.tdd.database.wal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 세그먼트 단위의 메모리 매핑 추가 전용 로그
+ * - 레코드는 [길이(4)][CRC32C(4)][종류(1)][userId(8)][값(8)][포인트(8)][updateMillis(8)] 의 고정 41바이트로 기록
+ * - 길이를 마지막에 쓰므로, 기록 도중 중단된 레코드는 길이가 0 이거나 CRC 가 맞지 않아 재생에서 제외됨
+ * - 세그먼트가 가득 차면 다음 세그먼트 파일로 넘어가며, 파일 이름은 첫 레코드의 순번(sequence)
+ * - 레코드 순번은 1부터 증가하며 재시작 후에도 같은 레코드는 같은 순번을 가짐
+ * - 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock 사용
+ */
+public class WriteAheadLog implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(WriteAheadLog.class);
+    static final int HEADER_SIZE = Integer.BYTES * 2;
+    static final int PAYLOAD_SIZE = 1 + Long.BYTES * 4;
+    static final int FRAME_SIZE = HEADER_SIZE + PAYLOAD_SIZE;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final WalRecord.Kind[] KINDS = WalRecord.Kind.values();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final long groupCommitDelayNanos;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    // 공정 락: fsync 를 마치고 돌아온 스레드가 새 레코드로 곧바로 다시 리더가 되어 소량만 fsync 하는 것을 막음
+    private final ReentrantLock forceLock = new ReentrantLock(true);
+    private final LongAdder forceCount = new LongAdder();
+    // appendLock 으로 보호
+    private Segment current;
+    private long appendedSequence;
+    private volatile long durableSequence;
+
+    public WriteAheadLog(Path directory, int segmentSize, FsyncPolicy fsyncPolicy, Duration groupCommitDelay) {
+        if (segmentSize < FRAME_SIZE) {
+            throw new IllegalArgumentException("세그먼트 크기는 " + FRAME_SIZE + "바이트 이상이어야 합니다.");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        this.groupCommitDelayNanos = groupCommitDelay.toNanos();
+    }
+
+    /**
+     * 저장된 레코드를 순번 순서대로 재생하고, 마지막 레코드 뒤부터 기록할 수 있도록 로그를 엽니다.
+     * 마지막 세그먼트 끝의 손상된 레코드(기록 도중 중단)는 버리고, 그 외의 손상은 IllegalStateException 으로 알립니다.
+     */
+    public void replay(ObjLongConsumer<WalRecord> consumer) throws IOException {
+        replay(0, consumer);
+    }
+
+    /**
+     * afterSequence 이후의 레코드만 재생하고 로그를 엽니다. (afterSequence 까지는 스냅숏으로 복구한 경우)
+     */
+    public void replay(long afterSequence, ObjLongConsumer<WalRecord> consumer) throws IOException {
+        appendLock.lock();
+        try {
+            if (current != null) {
+                throw new IllegalStateException("이미 열린 로그입니다.");
+            }
+            Files.createDirectories(directory);
+            List<Path> segmentPaths = listSegments();
+            long sequence = 0;
+            for (int i = 0; i < segmentPaths.size(); i++) {
+                Path path = segmentPaths.get(i);
+                boolean last = i == segmentPaths.size() - 1;
+                Segment segment = Segment.open(path, baseSequenceOf(path));
+                if (i == 0 && segment.baseSequence > afterSequence + 1) {
+                    segment.close();
+                    throw new IllegalStateException("로그가 누락되었습니다. 필요한 순번=" + (afterSequence + 1) + ", path=" + path);
+                }
+                sequence = segment.baseSequence - 1;
+                while (segment.hasFrame()) {
+                    WalRecord record = segment.read();
+                    if (record == null) {
+                        if (!last) {
+                            throw new IllegalStateException("로그 세그먼트가 손상되었습니다. path=" + path + ", position=" + segment.position);
+                        }
+                        log.warn("로그 끝의 완료되지 않은 레코드를 버립니다. path={}, position={}", path, segment.position);
+                        segment.clearRemaining();
+                        break;
+                    }
+                    if (++sequence > afterSequence) {
+                        consumer.accept(record, sequence);
+                    }
+                }
+                if (last) {
+                    current = segment;
+                } else {
+                    segment.close();
+                }
+            }
+            sequence = Math.max(sequence, afterSequence);
+            if (current == null) {
+                current = Segment.create(segmentPath(sequence + 1), sequence + 1, segmentSize);
+            }
+            appendedSequence = sequence;
+            durableSequence = sequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 레코드를 기록하고 순번을 반환합니다. fsync 정책이 ALWAYS, BATCH 이면 디스크에 기록된 후 반환합니다.
+     */
+    public long append(WalRecord record) {
+        return appendAll(List.of(record));
+    }
+
+    /**
+     * 레코드 여러 개를 이어서 기록하고 마지막 레코드의 순번을 반환합니다. (순번은 연속이며 다른 기록이 끼어들지 않음)
+     * fsync 정책이 ALWAYS, BATCH 이어도 디스크 기록은 모두 기록한 뒤 한 번만 기다립니다.
+     */
+    public long appendAll(List<WalRecord> records) {
+        long sequence;
+        appendLock.lock();
+        try {
+            if (current == null) {
+                throw new IllegalStateException("replay 로 로그를 연 뒤에 기록할 수 있습니다.");
+            }
+            for (WalRecord record : records) {
+                if (current.remaining() < FRAME_SIZE) {
+                    roll();
+                }
+                current.write(record);
+                ++appendedSequence;
+            }
+            sequence = appendedSequence;
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                current.force();
+                forceCount.increment();
+                durableSequence = sequence;
+            }
+        } finally {
+            appendLock.unlock();
+        }
+
+        if (fsyncPolicy == FsyncPolicy.BATCH) {
+            awaitDurable(sequence);
+        }
+        return sequence;
+    }
+
+    /**
+     * 모든 레코드가 sequence 이하인 세그먼트 파일을 지우고, 지운 개수를 반환합니다. (기록 중인 세그먼트는 지우지 않음)
+     */
+    public int deleteSegmentsBefore(long sequence) throws IOException {
+        long currentBaseSequence;
+        appendLock.lock();
+        try {
+            currentBaseSequence = current.baseSequence;
+        } finally {
+            appendLock.unlock();
+        }
+
+        List<Path> segmentPaths = listSegments();
+        int deleted = 0;
+        for (int i = 0; i + 1 < segmentPaths.size(); i++) {
+            long nextBaseSequence = baseSequenceOf(segmentPaths.get(i + 1));
+            if (baseSequenceOf(segmentPaths.get(i)) >= currentBaseSequence || nextBaseSequence - 1 > sequence) {
+                break;
+            }
+            Files.delete(segmentPaths.get(i));
+            deleted++;
+        }
+        return deleted;
+    }
+
+    public long getAppendedSequence() {
+        appendLock.lock();
+        try {
+            return appendedSequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    public long getDurableSequence() {
+        return durableSequence;
+    }
+
+    public long getForceCount() {
+        return forceCount.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            if (current != null) {
+                current.force();
+                current.close();
+                current = null;
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 그룹 커밋: 먼저 forceLock 을 얻은 스레드가 그때까지 기록된 레코드를 한 번에 fsync 하고,
+     * 기다리던 스레드는 자신의 레코드가 이미 포함되었으면 fsync 없이 반환
+     */
+    private void awaitDurable(long sequence) {
+        while (durableSequence < sequence) {
+            forceLock.lock();
+            try {
+                if (durableSequence >= sequence) {
+                    return;
+                }
+                if (groupCommitDelayNanos > 0) {
+                    LockSupport.parkNanos(groupCommitDelayNanos);
+                }
+
+                long target;
+                Segment segment;
+                appendLock.lock();
+                try {
+                    target = appendedSequence;
+                    segment = current;
+                } finally {
+                    appendLock.unlock();
+                }
+                // 이전 세그먼트는 넘어갈 때 이미 fsync 되었으므로 현재 세그먼트만 fsync
+                segment.force();
+                forceCount.increment();
+                durableSequence = target;
+            } finally {
+                forceLock.unlock();
+            }
+        }
+    }
+
+    private void roll() {
+        try {
+            if (fsyncPolicy != FsyncPolicy.NEVER) {
+                current.force();
+                forceCount.increment();
+            }
+            current.close();
+            long baseSequence = appendedSequence + 1;
+            current = Segment.create(segmentPath(baseSequence), baseSequence, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 세그먼트를 만들지 못했습니다.", e);
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long baseSequence) {
+        return directory.resolve(SEGMENT_PREFIX + "%020d".formatted(baseSequence) + SEGMENT_SUFFIX);
+    }
+
+    private static long baseSequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * 세그먼트 파일 하나 (파일 전체를 메모리에 매핑)
+     * - 버퍼의 position 을 쓰지 않고 절대 위치로만 읽고 써서, fsync 와 기록이 버퍼 상태를 공유하지 않게 함
+     */
+    private static class Segment {
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final long baseSequence;
+        private final CRC32C crc = new CRC32C();
+        private int position;
+
+        private Segment(FileChannel channel, MappedByteBuffer buffer, long baseSequence) {
+            this.channel = channel;
+            this.buffer = buffer;
+            this.baseSequence = baseSequence;
+        }
+
+        private static Segment create(Path path, long baseSequence, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size), baseSequence);
+        }
+
+        private static Segment open(Path path, long baseSequence) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()), baseSequence);
+        }
+
+        private int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        private boolean hasFrame() {
+            return remaining() >= FRAME_SIZE && buffer.getInt(position) != 0;
+        }
+
+        /**
+         * 현재 위치의 레코드를 읽고 다음 위치로 넘어갑니다. 손상된 레코드이면 위치를 유지하고 null 을 반환합니다.
+         */
+        private WalRecord read() {
+            int length = buffer.getInt(position);
+            int payload = position + HEADER_SIZE;
+            if (length != PAYLOAD_SIZE || buffer.getInt(position + Integer.BYTES) != checksum(payload)) {
+                return null;
+            }
+            int kind = buffer.get(payload) - 1;
+            if (kind < 0 || kind >= KINDS.length) {
+                return null;
+            }
+            WalRecord record = new WalRecord(
+                    KINDS[kind],
+                    buffer.getLong(payload + 1),
+                    buffer.getLong(payload + 1 + Long.BYTES),
+                    buffer.getLong(payload + 1 + Long.BYTES * 2),
+                    buffer.getLong(payload + 1 + Long.BYTES * 3)
+            );
+            position += FRAME_SIZE;
+            return record;
+        }
+
+        private void write(WalRecord record) {
+            int payload = position + HEADER_SIZE;
+            buffer.put(payload, (byte) (record.kind().ordinal() + 1));
+            buffer.putLong(payload + 1, record.userId());
+            buffer.putLong(payload + 1 + Long.BYTES, record.value());
+            buffer.putLong(payload + 1 + Long.BYTES * 2, record.balance());
+            buffer.putLong(payload + 1 + Long.BYTES * 3, record.updateMillis());
+            buffer.putInt(position + Integer.BYTES, checksum(payload));
+            // 길이를 마지막에 써야 중단된 레코드가 완료된 레코드로 보이지 않음
+            buffer.putInt(position, PAYLOAD_SIZE);
+            position += FRAME_SIZE;
+        }
+
+        private int checksum(int payload) {
+            crc.reset();
+            crc.update(buffer.slice(payload, PAYLOAD_SIZE));
+            return (int) crc.getValue();
+        }
+
+        /**
+         * 현재 위치 이후를 0으로 채웁니다. (중단된 레코드의 잔여 바이트가 이후 기록과 섞이지 않도록)
+         */
+        private void clearRemaining() {
+            for (int i = position; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+        }
+
+        private void force() {
+            buffer.force();
+        }
+
+        private void close() throws IOException {
+            channel.close();
+        }
+    }
+}
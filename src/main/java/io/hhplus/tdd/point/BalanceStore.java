@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 사용자 포인트 저장소
+ * - PointService 는 이 인터페이스에만 의존하므로, point.storage.engine 설정으로 저장소 구현을 바꿀 수 있음
+ * - 같은 사용자의 변경은 PointService 가 사용자 락 안에서 호출함
+ */
+public interface BalanceStore {
+
+    /**
+     * 사용자의 포인트를 반환합니다. 포인트가 없는 사용자는 {@link UserPoint#empty(long)} 를 반환합니다.
+     */
+    UserPoint selectById(long id);
+
+    UserPoint insertOrUpdate(long id, long amount);
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 일괄 충전 설정
+ * - concurrency : 동시에 처리할 최대 사용자 수 (모든 일괄 충전 요청이 공유)
+ * - maxItems : 한 번의 요청에 담을 수 있는 최대 충전 건수
+ * - virtualThreads : 사용자별 충전을 가상 스레드에서 수행할지 여부 (이 경우에도 concurrency 로 동시 처리 수를 제한)
+ */
+@ConfigurationProperties(prefix = "point.bulk-charge")
+public record BulkChargeProperties(
+        @DefaultValue("16") int concurrency,
+        @DefaultValue("10000") int maxItems,
+        @DefaultValue("false") boolean virtualThreads
+) {
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 캐시 설정
+ * - enabled : 포인트 저장소 앞에 포인트 캐시를 둘지 여부
+ * - maximumSize : 캐시에 보관할 최대 사용자 수
+ * - eviction : 캐시가 가득 찼을 때의 정책
+ */
+@ConfigurationProperties(prefix = "point.cache")
+public record CacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100000") int maximumSize,
+        @DefaultValue("LRU") Eviction eviction
+) {
+    /**
+     * 캐시 제거 정책
+     * - LRU : 가장 오래 사용되지 않은 사용자를 제거
+     * - TINY_LFU : LRU 후보보다 최근 접근 빈도가 낮은 사용자는 캐시에 들이지 않음 (일회성 조회가 자주 쓰는 사용자를 밀어내지 않도록)
+     */
+    public enum Eviction {
+        LRU, TINY_LFU
+    }
+}
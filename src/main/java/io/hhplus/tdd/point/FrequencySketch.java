@@ -0,0 +1,59 @@
+package io.hhplus.tdd.point;
+
+/**
+ * TinyLFU 입장 정책에 사용하는 접근 빈도 추정기 (Count-Min Sketch)
+ * - 키마다 4개의 카운터 중 최솟값을 빈도로 사용하고, 카운터는 15에서 멈춤
+ * - 일정 횟수 기록할 때마다 모든 카운터를 절반으로 줄여 오래된 빈도가 사라지도록 함
+ * - 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 함
+ */
+class FrequencySketch {
+    private static final int MAX_COUNT = 15;
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final int[] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int expectedSize) {
+        int size = Integer.highestOneBit(Math.max(64, expectedSize * 4) * 2 - 1);
+        this.counters = new int[size];
+        this.mask = size - 1;
+        this.sampleSize = size * 10;
+    }
+
+    void increment(long key) {
+        boolean added = false;
+        for (long seed : SEEDS) {
+            int index = indexOf(key, seed);
+            if (counters[index] < MAX_COUNT) {
+                counters[index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(long key) {
+        int frequency = MAX_COUNT;
+        for (long seed : SEEDS) {
+            frequency = Math.min(frequency, counters[indexOf(key, seed)]);
+        }
+        return frequency;
+    }
+
+    private int indexOf(long key, long seed) {
+        long hash = (key + seed) * seed;
+        hash ^= hash >>> 32;
+        return (int) hash & mask;
+    }
+
+    private void reset() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] >>>= 1;
+        }
+        additions /= 2;
+    }
+}
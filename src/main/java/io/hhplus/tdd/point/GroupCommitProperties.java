@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 그룹 커밋 설정
+ * - enabled : 같은 사용자에 대기 중인 충전/사용 명령을 한 번에 묶어 처리할지 여부
+ * - maxBatchSize : 한 번에 묶어 처리할 최대 명령 수
+ */
+@ConfigurationProperties(prefix = "point.group-commit")
+public record GroupCommitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("64") int maxBatchSize
+) {
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 이력 저장소
+ * - PointService 와 이력 write-behind 는 이 인터페이스에만 의존하므로, point.storage.engine 설정으로 저장소 구현을 바꿀 수 있음
+ * - 같은 사용자의 이력은 기록된 순서(id 오름차순)대로 조회되어야 함
+ */
+public interface HistoryStore {
+
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * 사용자의 이력을 기록된 순서대로 반환합니다. 반환된 목록은 이후 추가되는 이력의 영향을 받지 않습니다.
+     */
+    List<PointHistory> selectAllByUserId(long userId);
+
+    /**
+     * 사용자의 이력 중 id 가 cursor 보다 크고, updateMillis 가 [from, to) 구간인 이력을 최대 limit 개 반환합니다.
+     */
+    PointHistoryPage selectPageByUserId(long userId, long cursor, int limit, long from, long to);
+}
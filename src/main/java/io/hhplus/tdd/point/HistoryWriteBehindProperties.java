@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 이력 write-behind 설정
+ * - enabled : 이력 저장을 백그라운드로 미룰지 여부
+ * - workers : 이력을 저장하는 워커 수 (사용자별로 하나의 워커가 담당하여 순서 보장)
+ * - queueCapacity : 워커별 대기열 크기 (가득 차면 이력을 기록하는 요청이 대기)
+ * - virtualThreads : 워커를 가상 스레드로 실행할지 여부
+ */
+@ConfigurationProperties(prefix = "point.history.write-behind")
+public record HistoryWriteBehindProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("4") int workers,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("false") boolean virtualThreads
+) {
+}
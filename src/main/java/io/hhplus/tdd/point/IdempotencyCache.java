@@ -0,0 +1,135 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 멱등키별 충전/사용 결과 캐시
+ * - (userId, 멱등키) 로 처음 처리한 결과를 보관하고, 같은 키로 다시 요청하면 사용자 락이나 테이블을 거치지 않고 보관한 결과를 반환
+ * - 처리 중인 요청과 같은 키의 요청은 다시 처리하지 않고 처리 중인 요청의 결과를 기다림
+ * - 실패한 요청의 결과는 보관하지 않으므로 같은 키로 재시도할 수 있음
+ * - 보관 개수(maximumSize)와 보관 시간(ttl)을 제한하며, 모든 결과의 ttl 이 같으므로 먼저 끝난 결과부터 제거
+ * - 처리 중인 요청은 같은 키의 요청이 기다릴 수 있으므로 제거하지 않고 보관 개수에도 세지 않음 (처리가 끝나야 제거 대상이 됨)
+ */
+@Component
+public class IdempotencyCache {
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    // 처리가 끝난 결과만 끝난 순서대로 넣음. 만료되어 새 요청으로 바뀐 결과도 대기열에는 남아있으므로, 대기열 길이로 보관 개수를 제한
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public IdempotencyCache(IdempotencyProperties properties) {
+        this.maximumSize = properties.maximumSize();
+        this.ttlNanos = properties.ttl().toNanos();
+    }
+
+    /**
+     * 멱등키로 명령을 한 번만 수행합니다.
+     * 같은 키로 다른 종류나 금액의 명령을 요청하면 IllegalArgumentException 이 발생합니다.
+     */
+    public UserPoint execute(long userId, String idempotencyKey, TransactionType type, long amount, Supplier<UserPoint> command) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("멱등키는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        long now = System.nanoTime();
+        Key key = new Key(userId, idempotencyKey);
+        Entry created = new Entry(key, type, amount, now);
+        Entry entry = entries.compute(key, (k, current) -> current == null || current.isExpired(now, ttlNanos) ? created : current);
+        if (entry != created) {
+            hitCount.increment();
+            if (entry.type != type || entry.amount != amount) {
+                throw new IllegalArgumentException("같은 멱등키로 다른 요청을 보낼 수 없습니다.");
+            }
+            return await(entry.result);
+        }
+
+        UserPoint userPoint;
+        try {
+            userPoint = command.get();
+        } catch (RuntimeException e) {
+            entries.remove(key, created);
+            created.result.completeExceptionally(e);
+            throw e;
+        }
+        created.result.complete(userPoint);
+        insertionOrder.offer(created);
+        queuedCount.incrementAndGet();
+        evict(System.nanoTime());
+        return userPoint;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private void evict(long now) {
+        Entry oldest;
+        while ((oldest = insertionOrder.peek()) != null
+                && (queuedCount.get() > maximumSize || oldest.isExpired(now, ttlNanos))) {
+            if (!insertionOrder.remove(oldest)) {
+                continue;
+            }
+            queuedCount.decrementAndGet();
+            if (entries.remove(oldest.key, oldest)) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(long userId, String idempotencyKey) {
+    }
+
+    private static class Entry {
+        private final Key key;
+        private final TransactionType type;
+        private final long amount;
+        private final long createdNanos;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private Entry(Key key, TransactionType type, long amount, long createdNanos) {
+            this.key = key;
+            this.type = type;
+            this.amount = amount;
+            this.createdNanos = createdNanos;
+        }
+
+        // 처리 중인 결과는 기다리는 요청이 있을 수 있으므로 만료시키지 않음
+        private boolean isExpired(long now, long ttlNanos) {
+            return result.isDone() && now - createdNanos > ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 멱등키(Idempotency-Key) 설정
+ * - maximumSize : 보관할 최대 결과 수 (초과하면 오래된 결과부터 제거)
+ * - ttl : 결과를 보관하는 시간 (이후 같은 키로 요청하면 새 요청으로 처리)
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("100000") int maximumSize,
+        @DefaultValue("10m") Duration ttl
+) {
+}
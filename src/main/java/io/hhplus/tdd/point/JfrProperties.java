@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * JFR 기록 설정
+ * - enabled : 시작할 때 JDK 기본 설정과 jfr/point.jfc 설정으로 기록을 시작할지 여부
+ * - destination : 종료할 때 기록을 남길 파일
+ * - maxAge : 기록을 보관할 최대 기간 (지난 기록은 버림)
+ */
+@ConfigurationProperties(prefix = "point.jfr")
+public record JfrProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/jfr/point.jfr") Path destination,
+        @DefaultValue("1h") Duration maxAge
+) {
+}
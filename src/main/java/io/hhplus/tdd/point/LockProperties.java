@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 사용자 락 대기 설정
+ * - maxWait : 작업별로 사용자 락을 기다리는 최대 시간. 0 이면 얻을 때까지 기다림
+ *   요청에 X-Request-Deadline 헤더가 있으면 둘 중 이른 시각까지만 기다림
+ * - retryAfter : 락을 얻지 못해 거절한 응답(429)의 Retry-After
+ */
+@ConfigurationProperties(prefix = "point.lock")
+public record LockProperties(
+        @DefaultValue MaxWait maxWait,
+        @DefaultValue("1s") Duration retryAfter
+) {
+    public static final LockProperties UNBOUNDED = new LockProperties(
+            new MaxWait(Duration.ZERO, Duration.ZERO, Duration.ZERO), Duration.ofSeconds(1));
+
+    public record MaxWait(
+            @DefaultValue("0s") Duration charge,
+            @DefaultValue("0s") Duration use,
+            @DefaultValue("0s") Duration transfer
+    ) {
+    }
+
+    public enum Operation {
+        CHARGE, USE, TRANSFER
+    }
+
+    public Duration maxWait(Operation operation) {
+        return switch (operation) {
+            case CHARGE -> maxWait.charge();
+            case USE -> maxWait.use();
+            case TRANSFER -> maxWait.transfer();
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 정해진 시간 안에 사용자 락을 얻지 못해 요청을 거절할 때 발생 (429 Too Many Requests 로 응답)
+ */
+public class LockTimeoutException extends RuntimeException {
+    private final long userId;
+
+    public LockTimeoutException(long userId) {
+        super("요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        this.userId = userId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,295 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * long 키 전용 동시성 맵 (open addressing)
+ * - Long 키의 ConcurrentHashMap 은 조회할 때마다 키를 Long 으로 박싱하고 노드를 따라가야 함
+ * - 키는 long[], 값은 Object[] 에 그대로 두고 선형 탐사로 찾으므로 조회에 할당이 없음
+ * - 구간(segment)마다 StampedLock 을 두고, 조회는 낙관적 읽기로 잠금 없이 수행한 뒤 그 사이 변경이 있었을 때만 읽기 잠금으로 다시 조회
+ * - 삭제는 뒤따르는 항목을 당겨 채우는 방식(backward shift)이라 삭제 표시(tombstone)가 쌓이지 않음
+ * - 값으로 null 은 저장할 수 없음 (빈 칸 표시로 사용)
+ */
+public class LongConcurrentMap<V> {
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+    // 선형 탐사는 채움 비율이 높아지면 탐사 길이가 급격히 늘어나므로 절반을 넘으면 확장
+    private static final double MAX_LOAD = 0.5;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    public LongConcurrentMap() {
+        this(0);
+    }
+
+    public LongConcurrentMap(int expectedSize) {
+        int segmentCapacity = tableSizeFor((int) Math.min(1 << 30, (long) (expectedSize / SEGMENT_COUNT / MAX_LOAD) + 1));
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /**
+     * 키에 대한 새 값을 계산하는 함수. null 을 반환하면 키를 제거합니다.
+     * (값을 캡처하지 않는 람다를 쓰면 호출마다 할당이 생기지 않음)
+     */
+    @FunctionalInterface
+    public interface Remapping<V> {
+        V apply(long key, V current);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        long hash = mix(key);
+        Segment segment = segmentOf(hash);
+        long stamp = segment.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Object value = segment.table.find(key, hash);
+            if (segment.lock.validate(stamp)) {
+                return (V) value;
+            }
+        }
+        stamp = segment.lock.readLock();
+        try {
+            return (V) segment.table.find(key, hash);
+        } finally {
+            segment.lock.unlockRead(stamp);
+        }
+    }
+
+    public V getOrDefault(long key, V defaultValue) {
+        V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    public V put(long key, V value) {
+        return update(key, value, false);
+    }
+
+    public V putIfAbsent(long key, V value) {
+        return update(key, value, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        long hash = mix(key);
+        Segment segment = segmentOf(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            Table table = segment.table;
+            int index = table.indexOf(key, hash);
+            if (index < 0) {
+                return null;
+            }
+            Object previous = table.values[index];
+            segment.removeAt(index);
+            return (V) previous;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 키의 현재 값(없으면 null)으로 새 값을 계산하여 원자적으로 반영하고, 새 값을 반환합니다.
+     */
+    public V compute(long key, Remapping<V> remapping) {
+        return compute(key, remapping, false);
+    }
+
+    /**
+     * 키가 있을 때만 새 값을 계산하여 원자적으로 반영하고, 새 값(없었으면 null)을 반환합니다.
+     */
+    public V computeIfPresent(long key, Remapping<V> remapping) {
+        return compute(key, remapping, true);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V update(long key, V value, boolean onlyIfAbsent) {
+        if (value == null) {
+            throw new NullPointerException("값으로 null 은 저장할 수 없습니다.");
+        }
+        long hash = mix(key);
+        Segment segment = segmentOf(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            Table table = segment.table;
+            int index = table.indexOf(key, hash);
+            if (index >= 0) {
+                Object previous = table.values[index];
+                if (!onlyIfAbsent) {
+                    table.values[index] = value;
+                }
+                return (V) previous;
+            }
+            segment.insert(key, hash, value);
+            return null;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V compute(long key, Remapping<V> remapping, boolean onlyIfPresent) {
+        long hash = mix(key);
+        Segment segment = segmentOf(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            Table table = segment.table;
+            int index = table.indexOf(key, hash);
+            if (index < 0 && onlyIfPresent) {
+                return null;
+            }
+            V current = index < 0 ? null : (V) table.values[index];
+            V next = remapping.apply(key, current);
+            if (next == null) {
+                if (index >= 0) {
+                    segment.removeAt(index);
+                }
+            } else if (index >= 0) {
+                table.values[index] = next;
+            } else {
+                segment.insert(key, hash, next);
+            }
+            return next;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    private Segment segmentOf(long hash) {
+        return segments[(int) (hash >>> (Long.SIZE - SEGMENT_BITS))];
+    }
+
+    // 연속된 사용자 id 도 고르게 흩어지도록 비트를 섞음 (MurmurHash3 fmix64)
+    private static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return Math.max(MIN_SEGMENT_CAPACITY, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1);
+    }
+
+    /**
+     * 구간 하나. 변경은 쓰기 잠금 안에서만 수행
+     */
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+        private volatile Table table;
+        private volatile int size;
+
+        private Segment(int capacity) {
+            this.table = new Table(capacity);
+        }
+
+        private void insert(long key, long hash, Object value) {
+            Table current = table;
+            if (size + 1 > current.values.length * MAX_LOAD) {
+                current = current.resize();
+                table = current;
+            }
+            current.insert(key, hash, value);
+            size = size + 1;
+        }
+
+        private void removeAt(int index) {
+            table.removeAt(index);
+            size = size - 1;
+        }
+    }
+
+    /**
+     * 키와 값 배열. 확장할 때는 새 Table 을 만들어 바꿔 끼우므로, 조회하는 쪽은 항상 길이가 맞는 한 쌍의 배열을 봄
+     */
+    private static final class Table {
+        private final long[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private Object find(long key, long hash) {
+            int index = (int) hash & mask;
+            // 낙관적 읽기 도중 변경되어 빈 칸이 없어 보여도 끝나도록 최대 용량만큼만 탐사
+            for (int probes = 0; probes <= mask; probes++) {
+                Object value = values[index];
+                if (value == null) {
+                    return null;
+                }
+                if (keys[index] == key) {
+                    return value;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        private int indexOf(long key, long hash) {
+            int index = (int) hash & mask;
+            while (values[index] != null) {
+                if (keys[index] == key) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void insert(long key, long hash, Object value) {
+            int index = (int) hash & mask;
+            while (values[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = value;
+        }
+
+        private void removeAt(int index) {
+            int hole = index;
+            int next = index;
+            while (true) {
+                next = (next + 1) & mask;
+                if (values[next] == null) {
+                    break;
+                }
+                // next 의 원래 자리가 (hole, next] 구간 밖이면 hole 로 당겨도 탐사 경로가 끊기지 않음
+                int home = (int) mix(keys[next]) & mask;
+                boolean stays = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+                if (!stays) {
+                    keys[hole] = keys[next];
+                    values[hole] = values[next];
+                    hole = next;
+                }
+            }
+            values[hole] = null;
+        }
+
+        private Table resize() {
+            Table resized = new Table(values.length * 2);
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    resized.insert(keys[i], mix(keys[i]), values[i]);
+                }
+            }
+            return resized;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자별 메일박스 실행 엔진 설정
+ * - enabled : 충전/사용 API 를 메일박스로 처리할지 여부 (끄면 요청 스레드에서 바로 처리)
+ * - threads : 메일박스를 비우는 실행기 스레드 수
+ * - drainBatchSize : 한 번 스케줄될 때 연속으로 처리할 최대 명령 수 (다른 사용자의 굶주림 방지)
+ * - virtualThreads : 메일박스를 가상 스레드에서 비울지 여부 (이 경우 threads 는 사용하지 않음)
+ */
+@ConfigurationProperties(prefix = "point.mailbox")
+public record MailboxProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("4") int threads,
+        @DefaultValue("32") int drainBatchSize,
+        @DefaultValue("false") boolean virtualThreads
+) {
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 낙관적 충전/사용 설정
+ * - enabled : 사용자 락 없이 버전 비교로 충전/사용을 반영할지 여부
+ * - maxConflicts : 한 요청에서 허용하는 충돌 수. 넘기면 사용자 락으로 처리
+ * - window : 사용자별 충돌 비율을 계산하는 시도 수
+ * - conflictRateThreshold : window 동안의 충돌 비율이 이 값을 넘으면 그 사용자는 잠시 사용자 락으로 처리
+ * - pessimisticOperations : 사용자 락으로 전환한 뒤 다시 낙관적으로 시도하기 전까지 처리할 요청 수
+ */
+@ConfigurationProperties(prefix = "point.optimistic")
+public record OptimisticProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("3") int maxConflicts,
+        @DefaultValue("32") int window,
+        @DefaultValue("0.2") double conflictRateThreshold,
+        @DefaultValue("256") int pessimisticOperations
+) {
+}
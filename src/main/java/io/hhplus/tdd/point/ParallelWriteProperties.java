@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 업데이트와 이력 기록을 동시에 수행하는 설정
+ * - enabled : 검증 이후 포인트 업데이트와 이력 기록을 별도 실행기에서 동시에 수행할지 여부
+ * - threads : 쓰기 전용 실행기 스레드 수
+ * - virtualThreads : 쓰기를 가상 스레드에서 수행할지 여부 (이 경우 threads 는 사용하지 않음)
+ */
+@ConfigurationProperties(prefix = "point.parallel-write")
+public record ParallelWriteProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("16") int threads,
+        @DefaultValue("false") boolean virtualThreads
+) {
+}
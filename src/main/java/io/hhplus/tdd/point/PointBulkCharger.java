@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 사용자의 포인트 일괄 충전
+ * - 요청을 사용자별로 묶어, 서로 다른 사용자는 동시에 처리하고 같은 사용자의 충전은 요청 순서대로 처리
+ * - 동시에 처리하는 사용자 수는 concurrency 로 제한 (개별 충전은 PointService 의 사용자 락을 그대로 따름)
+ * - 한 건이 실패해도 나머지는 계속 처리하고, 결과는 요청과 같은 순서로 건별로 반환
+ */
+@Component
+public class PointBulkCharger {
+    private static final Logger log = LoggerFactory.getLogger(PointBulkCharger.class);
+
+    private final PointService pointService;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxItems;
+
+    public PointBulkCharger(PointService pointService, BulkChargeProperties properties) {
+        this.pointService = pointService;
+        if (properties.virtualThreads()) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("point-bulk-charge-", 1).factory());
+        } else {
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(properties.concurrency(),
+                    runnable -> new Thread(runnable, "point-bulk-charge-" + threadNumber.incrementAndGet()));
+        }
+        this.permits = new Semaphore(properties.concurrency());
+        this.maxItems = properties.maxItems();
+    }
+
+    public List<PointChargeResult> chargeAll(List<PointChargeRequest> requests) {
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("충전 요청이 비어있습니다.");
+        }
+        if (requests.size() > maxItems) {
+            throw new IllegalArgumentException("한 번에 충전할 수 있는 건수는 " + maxItems + "건 이하여야 합니다.");
+        }
+
+        // 사용자별로 요청 위치를 묶음 (같은 사용자 안에서는 요청 순서 유지)
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            indexesByUser.computeIfAbsent(requests.get(i).userId(), k -> new ArrayList<>()).add(i);
+        }
+
+        PointChargeResult[] results = new PointChargeResult[requests.size()];
+        CompletableFuture<?>[] futures = indexesByUser.values().stream()
+                .map(indexes -> CompletableFuture.runAsync(() -> chargeInOrder(requests, indexes, results), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        // 각 사용자 작업이 서로 다른 위치에만 쓰고, join 이 쓰기의 가시성을 보장
+        return Arrays.asList(results);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void chargeInOrder(List<PointChargeRequest> requests, List<Integer> indexes, PointChargeResult[] results) {
+        permits.acquireUninterruptibly();
+        try {
+            for (int index : indexes) {
+                PointChargeRequest request = requests.get(index);
+                try {
+                    results[index] = PointChargeResult.success(request, pointService.charge(request.userId(), request.amount()));
+                } catch (RuntimeException e) {
+                    // 검증 실패와 락 대기 초과 외의 실패는 응답에 원인을 담지 않으므로 서버에 남김
+                    if (!(e instanceof PointValidationException) && !(e instanceof LockTimeoutException)) {
+                        log.error("일괄 충전 중 충전에 실패했습니다. userId={}, amount={}", request.userId(), request.amount(), e);
+                    }
+                    results[index] = PointChargeResult.failure(request, e);
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package io.hhplus.tdd.point;
+
+public record PointChargeRequest(
+        long userId,
+        long amount
+) {
+}
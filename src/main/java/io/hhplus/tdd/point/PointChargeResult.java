@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 충전의 건별 결과
+ * - 성공하면 충전 후 포인트(userPoint)를, 실패하면 오류 코드(code)와 메시지(message)를 담음
+ * - 오류 코드와 메시지는 단건 API 의 오류 응답과 같음 (검증 실패는 거절 사유, 락 대기 초과는 429, 그 외는 500 과 고정 메시지)
+ */
+public record PointChargeResult(
+        long userId,
+        long amount,
+        boolean success,
+        UserPoint userPoint,
+        String code,
+        String message
+) {
+    private static final String INTERNAL_ERROR_CODE = "500";
+    private static final String INTERNAL_ERROR_MESSAGE = "에러가 발생했습니다.";
+
+    public static PointChargeResult success(PointChargeRequest request, UserPoint userPoint) {
+        return new PointChargeResult(request.userId(), request.amount(), true, userPoint, null, null);
+    }
+
+    /**
+     * 실패 결과를 만듭니다. 내부 예외의 메시지(저장소 오류 등)는 응답에 담지 않습니다.
+     */
+    public static PointChargeResult failure(PointChargeRequest request, Throwable cause) {
+        if (cause instanceof PointValidationException e) {
+            return failure(request, e.getReason().name(), e.getMessage());
+        }
+        if (cause instanceof LockTimeoutException e) {
+            return failure(request, "429", e.getMessage());
+        }
+        return failure(request, INTERNAL_ERROR_CODE, INTERNAL_ERROR_MESSAGE);
+    }
+
+    private static PointChargeResult failure(PointChargeRequest request, String code, String message) {
+        return new PointChargeResult(request.userId(), request.amount(), false, null, code, message);
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 그룹 커밋 대기열에 쌓이는 충전/사용 명령
+ * - result : 명령이 반영된 직후의 포인트 (검증 실패 시 예외로 완료)
+ */
+public record PointCommand(
+        long userId,
+        TransactionType type,
+        long amount,
+        CompletableFuture<UserPoint> result
+) {
+    public PointCommand(long userId, TransactionType type, long amount) {
+        this(userId, type, amount, new CompletableFuture<>());
+    }
+}
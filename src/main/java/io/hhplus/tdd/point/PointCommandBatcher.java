@@ -0,0 +1,153 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 같은 사용자의 충전/사용 명령을 묶어 처리하는 그룹 커밋
+ * - 명령을 사용자별 대기열에 넣은 뒤 사용자 락을 기다림
+ * - 락을 먼저 얻은 스레드가 대기열에 쌓인 명령을 한 번에 꺼내 처리하고, 나머지 스레드는 완료된 결과만 가져감
+ * - 대기열과 공정 락 모두 도착 순서를 따르므로 명령은 도착 순서대로 반영됨
+ */
+@Component
+public class PointCommandBatcher {
+    private final UserLockManager lockManager;
+    private final ConcurrentHashMap<Long, Queue<PointCommand>> pendingCommands = new ConcurrentHashMap<>();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder commandCount = new LongAdder();
+    private final boolean enabled;
+    private final int maxBatchSize;
+
+    public PointCommandBatcher(UserLockManager lockManager, GroupCommitProperties properties) {
+        this.lockManager = lockManager;
+        this.enabled = properties.enabled();
+        this.maxBatchSize = properties.maxBatchSize();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 명령을 대기열에 넣고, 반영된 결과를 반환합니다. 사용자 락은 얻을 때까지 기다립니다.
+     *
+     * @param batchHandler 락을 보유한 상태에서 묶인 명령을 순서대로 반영하고 각 명령의 result 를 완료시키는 처리기
+     */
+    public UserPoint execute(PointCommand command, Consumer<List<PointCommand>> batchHandler) {
+        return execute(command, PointService.NO_DEADLINE, batchHandler);
+    }
+
+    /**
+     * 명령을 대기열에 넣고, 반영된 결과를 반환합니다.
+     * 사용자 락은 기한(System.nanoTime 기준)까지만 기다리고, 그 안에 얻지 못하면 명령을 대기열에서 빼고 {@link LockTimeoutException} 을 던집니다.
+     * 그 사이 다른 스레드가 이미 명령을 꺼내 반영하고 있으면, 거절하지 않고 그 결과를 기다립니다.
+     */
+    public UserPoint execute(PointCommand command, long deadlineNanos, Consumer<List<PointCommand>> batchHandler) {
+        long userId = command.userId();
+        // 대기열 제거와 적재가 겹치지 않도록 compute 안에서 적재
+        pendingCommands.compute(userId, (k, queue) -> {
+            Queue<PointCommand> target = queue == null ? new ConcurrentLinkedQueue<>() : queue;
+            target.offer(command);
+            return target;
+        });
+
+        ReentrantLock lock = lockManager.getLock(userId);
+        if (!acquire(lock, userId, deadlineNanos)) {
+            lockManager.release(userId);
+            if (remove(command)) {
+                throw new LockTimeoutException(userId);
+            }
+            return join(command);
+        }
+        try {
+            while (!command.result().isDone()) {
+                List<PointCommand> batch = drain(userId);
+                if (batch.isEmpty()) {
+                    // 대기열에도 없는데 완료되지 않았으면 더 기다려도 완료되지 않으므로 실패로 끝냄
+                    command.result().completeExceptionally(new IllegalStateException("처리되지 않은 명령입니다. userId=" + userId));
+                    break;
+                }
+                batchCount.increment();
+                commandCount.add(batch.size());
+                try {
+                    batchHandler.accept(batch);
+                } catch (RuntimeException e) {
+                    batch.forEach(pending -> pending.result().completeExceptionally(e));
+                } finally {
+                    // 처리기가 결과를 남기지 못한 명령(Error 등)을 기다리는 스레드가 멈추지 않도록 실패로 완료
+                    for (PointCommand pending : batch) {
+                        if (!pending.result().isDone()) {
+                            pending.result().completeExceptionally(new IllegalStateException("처리되지 않은 명령입니다. userId=" + userId));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+            lockManager.release(userId);
+        }
+        return join(command);
+    }
+
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    public long getCommandCount() {
+        return commandCount.sum();
+    }
+
+    private static boolean acquire(ReentrantLock lock, long userId, long deadlineNanos) {
+        if (deadlineNanos == PointService.NO_DEADLINE) {
+            UserLockEvent.lock(lock, userId);
+            return true;
+        }
+        return UserLockEvent.tryLock(lock, userId, deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * 아직 꺼내지 않은 명령을 대기열에서 빼고, 뺐는지를 반환합니다.
+     */
+    private boolean remove(PointCommand command) {
+        boolean[] removed = new boolean[1];
+        pendingCommands.computeIfPresent(command.userId(), (k, queue) -> {
+            removed[0] = queue.remove(command);
+            return queue.isEmpty() ? null : queue;
+        });
+        return removed[0];
+    }
+
+    private static UserPoint join(PointCommand command) {
+        try {
+            return command.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private List<PointCommand> drain(long userId) {
+        Queue<PointCommand> queue = pendingCommands.get(userId);
+        if (queue == null) {
+            return List.of();
+        }
+        List<PointCommand> batch = new ArrayList<>();
+        PointCommand command;
+        while (batch.size() < maxBatchSize && (command = queue.poll()) != null) {
+            batch.add(command);
+        }
+        pendingCommands.computeIfPresent(userId, (k, current) -> current.isEmpty() ? null : current);
+        return batch;
+    }
+}
@@ -3,9 +3,19 @@ package io.hhplus.tdd.point;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/point")
@@ -13,7 +23,18 @@ import java.util.List;
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 100;
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String REQUEST_DEADLINE_HEADER = "X-Request-Deadline";
+    // 요청 기한은 최대 하루까지만 인정 (nanoTime 기준 시각으로 바꿀 때 넘치지 않도록)
+    private static final long MAX_DEADLINE_NANOS = Duration.ofDays(1).toNanos();
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
     private final PointService pointService;
+    private final PointHistoryExporter historyExporter;
+    private final PointBulkCharger bulkCharger;
+    private final IdempotencyCache idempotencyCache;
+    private final UserCommandMailbox commandMailbox;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
@@ -27,33 +48,152 @@ public class PointController {
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * - cursor, limit, from, to 중 하나라도 주어지면 페이지 단위로 조회하고, 다음 페이지 커서를 X-Next-Cursor 헤더로 반환
+     *   (cursor: 이전 페이지 마지막 이력 id, from/to: updateMillis 구간 [from, to))
      */
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(
-            @PathVariable long id
+    public ResponseEntity<List<PointHistory>> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        if (cursor == null && limit == null && from == null && to == null) {
+            return ResponseEntity.ok(pointService.selectHistoriesByUserId(id));
+        }
+
+        PointHistoryPage page = pointService.selectHistoryPageByUserId(
+                id,
+                cursor == null ? 0 : cursor,
+                limit == null ? DEFAULT_HISTORY_PAGE_SIZE : limit,
+                from == null ? Long.MIN_VALUE : from,
+                to == null ? Long.MAX_VALUE : to
+        );
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.nextCursor()));
+        }
+        return response.body(page.histories());
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/이용 내역을 NDJSON(한 줄에 이력 하나)으로 내보냅니다.
+     * - 응답 스트림에 바로 쓰므로 유저 수나 이력 수와 관계없이 메모리를 일정하게 사용
+     * - Accept-Encoding 에 gzip 이 있으면 gzip 으로 압축
+     */
+    @GetMapping("histories/export")
+    public ResponseEntity<StreamingResponseBody> exportHistories(
+            @RequestParam List<Long> users,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        return pointService.selectHistoriesByUserId(id);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, true)) {
+                    historyExporter.export(users, gzipOut);
+                }
+            } else {
+                historyExporter.export(users, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(NDJSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재요청에는 처음 결과를 그대로 반환 (중복 충전 방지)
+     * - X-Request-Deadline 헤더(epoch 밀리초 또는 ISO-8601 시각)가 있으면 그 시각까지 사용자 락을 얻지 못할 때 429 로 거절
+     * - 메일박스를 켜면 사용자 메일박스에 넣고 요청 스레드는 바로 반환 (결과는 비동기로 응답)
      */
     @PatchMapping("{id}/charge")
-    public UserPoint charge(
+    public CompletableFuture<UserPoint> charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(value = REQUEST_DEADLINE_HEADER, required = false) String requestDeadline
+    ) {
+        long deadlineNanos = toDeadlineNanos(requestDeadline);
+        return execute(id, idempotencyKey, TransactionType.CHARGE, amount, () -> pointService.charge(id, amount, deadlineNanos));
+    }
+
+    /**
+     * 여러 유저의 포인트를 한 번에 충전합니다.
+     * - 서로 다른 유저는 동시에, 같은 유저는 요청 순서대로 충전하고 건별 결과를 요청 순서대로 반환
+     */
+    @PostMapping("charge/batch")
+    public List<PointChargeResult> chargeBatch(
+            @RequestBody List<PointChargeRequest> requests
     ) {
-        return pointService.charge(id, amount);
+        return bulkCharger.chargeAll(requests);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재요청에는 처음 결과를 그대로 반환 (중복 사용 방지)
+     * - X-Request-Deadline 헤더와 메일박스 처리는 충전과 같음
      */
     @PatchMapping("{id}/use")
-    public UserPoint use(
+    public CompletableFuture<UserPoint> use(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(value = REQUEST_DEADLINE_HEADER, required = false) String requestDeadline
     ) {
-        return pointService.use(id, amount);
+        long deadlineNanos = toDeadlineNanos(requestDeadline);
+        return execute(id, idempotencyKey, TransactionType.USE, amount, () -> pointService.use(id, amount, deadlineNanos));
+    }
+
+    /**
+     * 한 유저의 포인트를 다른 유저에게 이체합니다.
+     * - X-Request-Deadline 헤더는 충전과 같음
+     */
+    @PostMapping("transfer")
+    public PointTransferResult transfer(
+            @RequestBody PointTransferRequest request,
+            @RequestHeader(value = REQUEST_DEADLINE_HEADER, required = false) String requestDeadline
+    ) {
+        return pointService.transfer(request.fromUserId(), request.toUserId(), request.amount(), toDeadlineNanos(requestDeadline));
+    }
+
+    /**
+     * 충전/사용 명령을 실행합니다.
+     * 메일박스가 켜져 있으면 멱등성 확인까지 메일박스 안에서 처리하므로, 같은 키의 재요청도 같은 사용자 순서대로 처리됩니다.
+     */
+    private CompletableFuture<UserPoint> execute(long id, String idempotencyKey, TransactionType type, long amount, Supplier<UserPoint> command) {
+        Supplier<UserPoint> operation = idempotencyKey == null
+                ? command
+                : () -> idempotencyCache.execute(id, idempotencyKey, type, amount, command);
+        if (!commandMailbox.isEnabled()) {
+            return CompletableFuture.completedFuture(operation.get());
+        }
+        return commandMailbox.submit(id, operation);
+    }
+
+    /**
+     * X-Request-Deadline 헤더 값(epoch 밀리초 또는 ISO-8601 시각)을 System.nanoTime 기준 기한으로 바꿉니다.
+     * 헤더가 없으면 기한이 없고, 이미 지난 시각이면 락을 기다리지 않습니다.
+     */
+    static long toDeadlineNanos(String requestDeadline) {
+        if (requestDeadline == null) {
+            return PointService.NO_DEADLINE;
+        }
+        long deadlineMillis;
+        try {
+            deadlineMillis = requestDeadline.chars().allMatch(Character::isDigit)
+                    ? Long.parseLong(requestDeadline)
+                    : Instant.parse(requestDeadline).toEpochMilli();
+        } catch (NumberFormatException | DateTimeException | ArithmeticException e) {
+            throw new IllegalArgumentException(REQUEST_DEADLINE_HEADER + " 헤더 형식이 올바르지 않습니다.");
+        }
+        long remainingMillis = Math.max(0, deadlineMillis - System.currentTimeMillis());
+        // 나노초로 바꾸기 전에 줄여야 먼 미래의 기한이 넘쳐서 이미 지난 기한이 되지 않음
+        long remainingNanos = Math.min(MAX_DEADLINE_NANOS / 1_000_000L, remainingMillis) * 1_000_000L;
+        return System.nanoTime() + remainingNanos;
     }
 }
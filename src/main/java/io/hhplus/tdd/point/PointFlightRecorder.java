@@ -0,0 +1,79 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 애플리케이션과 함께 배포되는 JFR 설정(jfr/point.jfc)으로 기록
+ * - 켜져 있으면 시작할 때 기록을 시작하고, 종료할 때 destination 에 기록을 남김
+ * - 남긴 기록은 PointJfrAnalyzer(gradle jfrTopUsers)로 경합이 심한 사용자를 확인할 수 있음
+ */
+@Component
+public class PointFlightRecorder {
+    static final String SETTINGS = "/jfr/point.jfc";
+    private static final Logger log = LoggerFactory.getLogger(PointFlightRecorder.class);
+
+    private final JfrProperties properties;
+    private Recording recording;
+
+    public PointFlightRecorder(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() throws IOException, ParseException {
+        if (!properties.enabled()) {
+            return;
+        }
+        Files.createDirectories(properties.destination().toAbsolutePath().getParent());
+        recording = new Recording(settings());
+        recording.setName("point");
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.maxAge());
+        recording.setDestination(properties.destination());
+        recording.start();
+        log.info("JFR 기록을 시작합니다. destination={}", properties.destination().toAbsolutePath());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording == null) {
+            return;
+        }
+        // destination 이 지정되어 있으므로 stop 할 때 파일로 남음
+        recording.stop();
+        recording.close();
+        log.info("JFR 기록을 남겼습니다. destination={}", properties.destination().toAbsolutePath());
+    }
+
+    /**
+     * JDK 기본 설정에 포인트 이벤트 설정을 더한 설정을 반환합니다.
+     */
+    static Map<String, String> settings() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        try (InputStream in = PointFlightRecorder.class.getResourceAsStream(SETTINGS)) {
+            if (in == null) {
+                throw new IOException("JFR 설정 파일이 없습니다. " + SETTINGS);
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                settings.putAll(Configuration.create(reader).getSettings());
+            }
+        }
+        return settings;
+    }
+}
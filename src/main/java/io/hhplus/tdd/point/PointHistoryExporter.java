@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 포인트 이력 NDJSON 내보내기
+ * - 사용자별 이력을 한 줄에 하나씩 JSON 으로 출력 스트림에 바로 씀
+ * - 전체 결과를 모으지 않고 사용자 한 명씩 쓰므로 메모리 사용량은 내보내는 양과 무관
+ * - 사용자마다 flush 하므로 클라이언트 연결이 끊기면 다음 쓰기에서 IOException 이 발생하여 바로 중단됨
+ */
+@Component
+@RequiredArgsConstructor
+public class PointHistoryExporter {
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final PointService pointService;
+    private final ObjectMapper objectMapper;
+
+    public void export(List<Long> userIds, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(PointHistory.class);
+        for (Long userId : userIds) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("포인트 이력 내보내기가 중단되었습니다.");
+            }
+            for (PointHistory pointHistory : pointService.selectHistoriesByUserId(userId)) {
+                out.write(writer.writeValueAsBytes(pointHistory));
+                out.write(LINE_SEPARATOR);
+            }
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 포인트 이력 인덱스
+ * - PointHistoryTable 은 전체 이력을 훑어서 사용자 이력을 찾으므로, 전체 이력이 늘수록 조회가 느려짐
+ * - 이력을 저장할 때 사용자별 목록에도 이어 붙여 두고, 조회는 해당 사용자의 이력 수에만 비례하도록 함
+ * - 사용자별 목록은 id, updateMillis 순으로 쌓이므로(같은 사용자의 이력은 순차 기록) 페이지 조회는 이진 탐색으로 시작 위치를 찾음
+ */
+public class PointHistoryIndex {
+    private final ConcurrentHashMap<Long, UserHistories> histories = new ConcurrentHashMap<>();
+
+    public void append(PointHistory pointHistory) {
+        histories.computeIfAbsent(pointHistory.userId(), k -> new UserHistories()).append(pointHistory);
+    }
+
+    /**
+     * 사용자의 이력을 기록된 순서대로 반환합니다. 반환된 목록은 이후 추가되는 이력의 영향을 받지 않습니다.
+     */
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserHistories userHistories = histories.get(userId);
+        return userHistories == null ? List.of() : userHistories.snapshot();
+    }
+
+    /**
+     * 사용자의 이력 중 id 가 cursor 보다 크고, updateMillis 가 [from, to) 구간인 이력을 최대 limit 개 반환합니다.
+     * 조회 비용은 O(log n + limit) 입니다.
+     */
+    public PointHistoryPage selectPageByUserId(long userId, long cursor, int limit, long from, long to) {
+        UserHistories userHistories = histories.get(userId);
+        return userHistories == null ? new PointHistoryPage(List.of(), null) : userHistories.page(cursor, limit, from, to);
+    }
+
+    public int getUserCount() {
+        return histories.size();
+    }
+
+    /**
+     * 이력이 있는 사용자 id 목록 (이후 추가되는 사용자가 반영될 수 있는 보기)
+     */
+    public Set<Long> getUserIds() {
+        return Collections.unmodifiableSet(histories.keySet());
+    }
+
+    /**
+     * 한 사용자의 이력 목록 (추가만 가능)
+     * - 추가는 잠금으로 직렬화하고(가상 스레드 고정을 피하기 위해 ReentrantLock), 조회는 잠금 없이 size 까지의 배열을 그대로 보여줌
+     * - 배열의 [0, size) 구간은 한 번 쓰이면 바뀌지 않으므로 복사 없이 안전하게 공유 가능
+     */
+    private static class UserHistories {
+        private final ReentrantLock appendLock = new ReentrantLock();
+        private volatile PointHistory[] entries = new PointHistory[4];
+        private volatile int size;
+
+        private void append(PointHistory pointHistory) {
+            appendLock.lock();
+            try {
+                PointHistory[] current = entries;
+                if (size == current.length) {
+                    current = Arrays.copyOf(current, current.length * 2);
+                    entries = current;
+                }
+                current[size] = pointHistory;
+                // size 를 마지막에 갱신해야 조회하는 쪽이 채워지지 않은 칸을 보지 않음
+                size = size + 1;
+            } finally {
+                appendLock.unlock();
+            }
+        }
+
+        private List<PointHistory> snapshot() {
+            int count = size;
+            return Collections.unmodifiableList(Arrays.asList(entries).subList(0, count));
+        }
+
+        private PointHistoryPage page(long cursor, int limit, long from, long to) {
+            int count = size;
+            return PointHistoryPage.slice(Arrays.asList(entries).subList(0, count), cursor, limit, from, to);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 포인트 이력 페이지
+ * - nextCursor : 다음 페이지 조회 시 넘길 커서 (마지막 이력의 id). 다음 페이지가 없으면 null
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextCursor
+) {
+    /**
+     * id, updateMillis 순으로 쌓인 한 사용자의 이력 목록에서, id 가 cursor 보다 크고 updateMillis 가 [from, to) 구간인 이력을 최대 limit 개 잘라냅니다.
+     * 시작 위치는 이진 탐색으로 찾으므로, 임의 접근이 가능한 목록이면 조회 비용은 O(log n + limit) 입니다.
+     */
+    public static PointHistoryPage slice(List<PointHistory> histories, long cursor, int limit, long from, long to) {
+        int start = Math.max(firstIdAfter(histories, cursor), firstUpdatedAtOrAfter(histories, from));
+        int end = firstUpdatedAtOrAfter(histories, to);
+        if (start >= end) {
+            return new PointHistoryPage(List.of(), null);
+        }
+
+        int pageEnd = (int) Math.min(end, (long) start + limit);
+        List<PointHistory> page = Collections.unmodifiableList(histories.subList(start, pageEnd));
+        Long nextCursor = pageEnd < end ? histories.get(pageEnd - 1).id() : null;
+        return new PointHistoryPage(page, nextCursor);
+    }
+
+    /**
+     * id 가 cursor 보다 큰 첫 이력의 위치를 반환합니다.
+     */
+    public static int firstIdAfter(List<PointHistory> histories, long cursor) {
+        int low = 0;
+        int high = histories.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (histories.get(mid).id() <= cursor) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int firstUpdatedAtOrAfter(List<PointHistory> histories, long millis) {
+        int low = 0;
+        int high = histories.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (histories.get(mid).updateMillis() < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,273 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 포인트 이력 write-behind
+ * - 이력을 워커별 대기열에 넣고 바로 반환하며, 백그라운드 워커가 이력 저장소에 저장
+ * - 같은 사용자의 이력은 항상 같은 워커가 저장하므로 기록 순서가 유지됨
+ * - 조회 시 저장된 이력에 아직 저장되지 않은 이력을 합쳐서 반환하므로 자신이 기록한 이력은 바로 조회됨
+ * - 대기열이 가득 차면 기록하는 쪽이 대기 (backpressure), 종료 시 남은 이력을 모두 저장
+ */
+@Component
+public class PointHistoryWriteBehind {
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryWriteBehind.class);
+    private static final long RETRY_BACKOFF_MILLIS = 100;
+
+    private final HistoryStore historyStore;
+    private final boolean enabled;
+    private final List<BlockingQueue<PendingHistory>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    // 워커가 저장 결과를 남기고 대기 목록에서 빼는 동안(쓰기 락)에는 같은 워커 담당 사용자의 조회(읽기 락)가 중간 상태를 보지 않음
+    // 저장소 기록 자체는 락 밖에서 하므로, 느린 저장이 같은 워커 담당의 다른 사용자 조회를 막지 않음
+    private final List<ReentrantReadWriteLock> persistLocks = new ArrayList<>();
+    private final ConcurrentHashMap<Long, Queue<PendingHistory>> pendingByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final LongAdder persistedCount = new LongAdder();
+    private final LongAdder backpressureCount = new LongAdder();
+    private volatile boolean closed;
+
+    public PointHistoryWriteBehind(HistoryStore historyStore, HistoryWriteBehindProperties properties) {
+        this.historyStore = historyStore;
+        this.enabled = properties.enabled();
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < properties.workers(); i++) {
+            BlockingQueue<PendingHistory> queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+            ReentrantReadWriteLock persistLock = new ReentrantReadWriteLock();
+            Thread.Builder builder = properties.virtualThreads() ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+            Thread worker = builder.name("point-history-writer-" + (i + 1)).unstarted(() -> persistLoop(queue, persistLock));
+            queues.add(queue);
+            persistLocks.add(persistLock);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이력을 대기열에 넣습니다. 대기열이 가득 차면 자리가 날 때까지 대기합니다.
+     */
+    public void enqueue(long userId, long amount, TransactionType type, long updateMillis) {
+        if (closed) {
+            throw new IllegalStateException("이력 저장이 종료되었습니다.");
+        }
+        PendingHistory pending = new PendingHistory(userId, amount, type, updateMillis);
+        pendingByUser.compute(userId, (k, userQueue) -> {
+            Queue<PendingHistory> target = userQueue == null ? new ConcurrentLinkedQueue<>() : userQueue;
+            target.offer(pending);
+            return target;
+        });
+        pendingCount.incrementAndGet();
+
+        BlockingQueue<PendingHistory> queue = queues.get(workerIndex(userId));
+        if (!queue.offer(pending)) {
+            backpressureCount.increment();
+            try {
+                queue.put(pending);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("이력 저장 대기 중 인터럽트가 발생했습니다.", e);
+            }
+        }
+    }
+
+    /**
+     * 저장된 이력 뒤에 아직 저장되지 않은 이력을 이어서 반환합니다. 저장 전 이력의 id는 0 입니다.
+     * 이 사용자의 이력이 저장소에 기록되는 중이면, 저장소 조회에 그 이력이 포함되었는지 알 수 없으므로 그 기록이 끝나기를 기다렸다가 한 번 더 조회합니다.
+     */
+    public List<PointHistory> selectAllByUserId(long userId) {
+        while (true) {
+            // 대기 목록을 먼저 읽어야, 그 사이 저장되어 대기 목록에서 빠진 이력을 놓치지 않음
+            Queue<PendingHistory> userQueue = pendingByUser.get(userId);
+            if (userQueue == null) {
+                return historyStore.selectAllByUserId(userId);
+            }
+            List<PendingHistory> pending;
+            List<PointHistory> persisted;
+            ReentrantReadWriteLock persistLock = persistLocks.get(workerIndex(userId));
+            persistLock.readLock().lock();
+            try {
+                pending = List.copyOf(userQueue);
+                persisted = historyStore.selectAllByUserId(userId);
+            } finally {
+                persistLock.readLock().unlock();
+            }
+            // 기록을 시작하기 전에 기록 중 표시를 남기므로, 저장소를 읽은 뒤에도 표시가 없으면 저장소에 없는 이력
+            // 같은 사용자의 이력은 한 워커가 하나씩 기록하므로 기록 중인 이력은 많아야 하나
+            CompletableFuture<Void> inFlight = pending.stream()
+                    .filter(PendingHistory::isUndetermined)
+                    .map(history -> history.inFlight)
+                    .findFirst()
+                    .orElse(null);
+            if (inFlight == null) {
+                return merge(persisted, pending);
+            }
+            inFlight.join();
+        }
+    }
+
+    private static List<PointHistory> merge(List<PointHistory> persisted, List<PendingHistory> pending) {
+        if (pending.isEmpty()) {
+            return persisted;
+        }
+
+        Set<Long> persistedIds = new HashSet<>();
+        persisted.forEach(history -> persistedIds.add(history.id()));
+        List<PointHistory> histories = new ArrayList<>(persisted);
+        for (PendingHistory history : pending) {
+            PointHistory saved = history.persisted;
+            if (saved == null) {
+                histories.add(history.toPointHistory());
+            } else if (!persistedIds.contains(saved.id())) {
+                histories.add(saved);
+            }
+        }
+        return histories;
+    }
+
+    public int getQueueDepth() {
+        return pendingCount.get();
+    }
+
+    public long getPersistedCount() {
+        return persistedCount.sum();
+    }
+
+    public long getBackpressureCount() {
+        return backpressureCount.sum();
+    }
+
+    /**
+     * 현재까지 대기열에 들어온 이력이 모두 저장될 때까지 대기합니다.
+     */
+    public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (pendingCount.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        closed = true;
+        if (!flush(30, TimeUnit.SECONDS)) {
+            log.warn("종료 전 저장하지 못한 포인트 이력이 있습니다. count={}", pendingCount.get());
+        }
+        workers.forEach(Thread::interrupt);
+    }
+
+    private int workerIndex(long userId) {
+        return Math.floorMod(Long.hashCode(userId), queues.size());
+    }
+
+    private void persistLoop(BlockingQueue<PendingHistory> queue, ReentrantReadWriteLock persistLock) {
+        while (true) {
+            PendingHistory pending;
+            try {
+                pending = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            persist(pending, persistLock);
+        }
+    }
+
+    private void persist(PendingHistory pending, ReentrantReadWriteLock persistLock) {
+        PointHistory saved;
+        CompletableFuture<Void> inFlight;
+        while (true) {
+            // 기록 중 표시는 저장소에 기록하기 전에 남겨야 조회가 저장 여부를 잘못 판단하지 않음
+            inFlight = new CompletableFuture<>();
+            pending.inFlight = inFlight;
+            try {
+                saved = historyStore.insert(pending.userId, pending.amount, pending.type, pending.updateMillis);
+                break;
+            } catch (RuntimeException e) {
+                pending.inFlight = null;
+                inFlight.complete(null);
+                // 같은 사용자의 이후 이력이 앞지르지 않도록 건너뛰지 않고 재시도
+                log.error("포인트 이력 저장에 실패했습니다. userId={}", pending.userId, e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(RETRY_BACKOFF_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        // 저장 결과를 남기고 대기 목록에서 빼는 짧은 구간만 락으로 묶음
+        persistLock.writeLock().lock();
+        try {
+            pending.persisted = saved;
+            pendingByUser.computeIfPresent(pending.userId, (k, userQueue) -> {
+                userQueue.remove(pending);
+                return userQueue.isEmpty() ? null : userQueue;
+            });
+        } finally {
+            persistLock.writeLock().unlock();
+        }
+        // 저장 결과를 남긴 뒤에 알려야, 기다리던 조회가 다시 읽을 때 저장된 이력으로 판단함
+        inFlight.complete(null);
+        pendingCount.decrementAndGet();
+        persistedCount.increment();
+    }
+
+    private static class PendingHistory {
+        private final long userId;
+        private final long amount;
+        private final TransactionType type;
+        private final long updateMillis;
+        // 저장소에 기록하는 동안만 값이 있고, 그 기록이 끝나면(실패 포함) 완료됨
+        private volatile CompletableFuture<Void> inFlight;
+        private volatile PointHistory persisted;
+
+        private PendingHistory(long userId, long amount, TransactionType type, long updateMillis) {
+            this.userId = userId;
+            this.amount = amount;
+            this.type = type;
+            this.updateMillis = updateMillis;
+        }
+
+        /**
+         * 저장소에 기록하는 중이라 저장소 조회에 포함되었는지 알 수 없는 상태인지 여부
+         */
+        private boolean isUndetermined() {
+            return inFlight != null && persisted == null;
+        }
+
+        private PointHistory toPointHistory() {
+            return new PointHistory(0, userId, amount, type, updateMillis);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JFR 기록(.jfr)에서 사용자 락 경합이 심한 사용자와 테이블 호출 소요 시간을 요약
+ * - 사용법: gradle jfrTopUsers -Pjfr.file=data/jfr/point.jfr [-Pjfr.top=10]
+ */
+public final class PointJfrAnalyzer {
+
+    private PointJfrAnalyzer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("사용법: PointJfrAnalyzer <기록 파일(.jfr)> [출력할 사용자 수]");
+            System.exit(1);
+        }
+        Path recording = Path.of(args[0]);
+        int limit = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        Summary summary = analyze(recording);
+
+        System.out.printf("락 대기 시간 합계 상위 %d 명 (%s)%n", limit, recording.toAbsolutePath());
+        System.out.printf("%12s %8s %14s %14s %10s%n", "userId", "count", "totalWait(ms)", "maxWait(ms)", "maxQueue");
+        for (UserContention user : summary.topContendedUsers(limit)) {
+            System.out.printf("%12d %8d %14.3f %14.3f %10d%n",
+                    user.userId(), user.count(), user.totalWaitNanos() / 1_000_000.0, user.maxWaitNanos() / 1_000_000.0, user.maxQueueLength());
+        }
+
+        System.out.println();
+        System.out.println("테이블 호출");
+        System.out.printf("%-20s %-16s %8s %10s %10s%n", "table", "operation", "count", "avg(ms)", "max(ms)");
+        for (TableCall call : summary.tableCalls()) {
+            System.out.printf("%-20s %-16s %8d %10.3f %10.3f%n",
+                    call.table(), call.operation(), call.count(), call.totalNanos() / 1_000_000.0 / call.count(), call.maxNanos() / 1_000_000.0);
+        }
+    }
+
+    static Summary analyze(Path recording) throws IOException {
+        Map<Long, UserContention> users = new HashMap<>();
+        Map<String, TableCall> tableCalls = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String name = event.getEventType().getName();
+                long nanos = event.getDuration().toNanos();
+                if (UserLockEvent.NAME.equals(name)) {
+                    long userId = event.getLong("userId");
+                    users.merge(userId, new UserContention(userId, 1, nanos, nanos, event.getInt("queueLength")), UserContention::merge);
+                } else if (PointTableCallEvent.NAME.equals(name)) {
+                    String table = event.getString("table");
+                    String operation = event.getString("operation");
+                    tableCalls.merge(table + "." + operation, new TableCall(table, operation, 1, nanos, nanos), TableCall::merge);
+                }
+            }
+        }
+        return new Summary(new ArrayList<>(users.values()), new ArrayList<>(tableCalls.values()));
+    }
+
+    record Summary(List<UserContention> users, List<TableCall> tableCalls) {
+        List<UserContention> topContendedUsers(int limit) {
+            return users.stream()
+                    .sorted(Comparator.comparingLong(UserContention::totalWaitNanos).reversed())
+                    .limit(limit)
+                    .toList();
+        }
+    }
+
+    record UserContention(long userId, long count, long totalWaitNanos, long maxWaitNanos, int maxQueueLength) {
+        UserContention merge(UserContention other) {
+            return new UserContention(userId, count + other.count, totalWaitNanos + other.totalWaitNanos,
+                    Math.max(maxWaitNanos, other.maxWaitNanos), Math.max(maxQueueLength, other.maxQueueLength));
+        }
+    }
+
+    record TableCall(String table, String operation, long count, long totalNanos, long maxNanos) {
+        TableCall merge(TableCall other) {
+            return new TableCall(table, operation, count + other.count, totalNanos + other.totalNanos, Math.max(maxNanos, other.maxNanos));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포인트 처리 지표 (actuator 의 /actuator/prometheus 로 노출)
+ * - point.stage : 단계별 소요 시간 (stage = lock_wait, select, update, history_insert)
+ * - point.validation.rejections : 검증 거절 수 (type = charge/use, reason = 거절 사유)
+ * - point.locks.live / point.locks.evictions : 레지스트리에 남아있는 사용자 락 수 / 제거된 락 수
+ * - point.lock.timeouts : 기한 안에 사용자 락을 얻지 못해 거절한 요청 수
+ * - point.reads.coalesced : 조회 합치기 결과별 조회 수 (result = load: 저장소 조회, shared: 진행 중인 조회 결과를 함께 받음)
+ * - point.reads.coalesced.invalidations / point.reads.inflight : 포인트 변경으로 무효화된 진행 중 조회 수 / 진행 중인 저장소 조회 수
+ * - 엔드포인트별 소요 시간은 Spring MVC 가 기록하는 http.server.requests 를 사용
+ * - 측정 대상 경로에서 할당이 없도록 지표는 모두 미리 만들어 두고, 시간은 호출하는 쪽에서 nanoTime 으로 잰 값을 받음
+ * - 단계별 시간은 건수와 합계만 LongAdder 로 모으는 FunctionTimer 로 노출 (Timer 의 최댓값 창/히스토그램 갱신 비용이 조회 한 건의 비용과 비슷해서)
+ *   분위수(p99 등)는 엔드포인트 단위의 http.server.requests 히스토그램으로 확인
+ */
+@Component
+public class PointMetrics {
+    private final StageTimer lockWaitTimer;
+    private final StageTimer selectTimer;
+    private final StageTimer updateTimer;
+    private final StageTimer historyInsertTimer;
+    private final Counter lockTimeoutCounter;
+    private final Map<TransactionType, Map<PointValidationException.Reason, Counter>> rejectionCounters = new EnumMap<>(TransactionType.class);
+
+    public PointMetrics(MeterRegistry registry, UserLockManager lockManager, UserPointReadCoalescer readCoalescer) {
+        this.lockWaitTimer = new StageTimer(registry, "lock_wait");
+        this.selectTimer = new StageTimer(registry, "select");
+        this.updateTimer = new StageTimer(registry, "update");
+        this.historyInsertTimer = new StageTimer(registry, "history_insert");
+        this.lockTimeoutCounter = Counter.builder("point.lock.timeouts")
+                .description("기한 안에 사용자 락을 얻지 못해 거절한 요청 수")
+                .register(registry);
+        for (TransactionType type : TransactionType.values()) {
+            Map<PointValidationException.Reason, Counter> counters = new EnumMap<>(PointValidationException.Reason.class);
+            for (PointValidationException.Reason reason : PointValidationException.Reason.values()) {
+                counters.put(reason, Counter.builder("point.validation.rejections")
+                        .description("검증에서 거절된 포인트 변경 수")
+                        .tag("type", type.name().toLowerCase())
+                        .tag("reason", reason.name().toLowerCase())
+                        .register(registry));
+            }
+            rejectionCounters.put(type, counters);
+        }
+        Gauge.builder("point.locks.live", lockManager, UserLockManager::getLiveLockCount)
+                .description("레지스트리에 남아있는 사용자 락 수")
+                .register(registry);
+        FunctionCounter.builder("point.locks.evictions", lockManager, UserLockManager::getEvictionCount)
+                .description("참조가 모두 해제되어 제거된 사용자 락 수")
+                .register(registry);
+        FunctionCounter.builder("point.reads.coalesced", readCoalescer, UserPointReadCoalescer::getLoadCount)
+                .description("조회 합치기 결과별 조회 수")
+                .tag("result", "load")
+                .register(registry);
+        FunctionCounter.builder("point.reads.coalesced", readCoalescer, UserPointReadCoalescer::getSharedCount)
+                .description("조회 합치기 결과별 조회 수")
+                .tag("result", "shared")
+                .register(registry);
+        FunctionCounter.builder("point.reads.coalesced.invalidations", readCoalescer, UserPointReadCoalescer::getInvalidationCount)
+                .description("포인트 변경으로 무효화된 진행 중 조회 수")
+                .register(registry);
+        Gauge.builder("point.reads.inflight", readCoalescer, UserPointReadCoalescer::getInFlightCount)
+                .description("진행 중인 저장소 조회 수 (조회 합치기 사용 시)")
+                .register(registry);
+    }
+
+    public void recordLockWait(long nanos) {
+        lockWaitTimer.record(nanos);
+    }
+
+    public void recordSelect(long nanos) {
+        selectTimer.record(nanos);
+    }
+
+    public void recordUpdate(long nanos) {
+        updateTimer.record(nanos);
+    }
+
+    public void recordHistoryInsert(long nanos) {
+        historyInsertTimer.record(nanos);
+    }
+
+    public void recordLockTimeout() {
+        lockTimeoutCounter.increment();
+    }
+
+    public void recordRejection(TransactionType type, PointValidationException.Reason reason) {
+        rejectionCounters.get(type).get(reason).increment();
+    }
+
+    private static class StageTimer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        private StageTimer(MeterRegistry registry, String stage) {
+            FunctionTimer.builder("point.stage", this, timer -> timer.count.sum(), timer -> timer.totalNanos.sum(), TimeUnit.NANOSECONDS)
+                    .description("포인트 처리 단계별 소요 시간")
+                    .tag("stage", stage)
+                    .register(registry);
+        }
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+        }
+    }
+}
@@ -1,77 +1,554 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
 
 import static io.hhplus.tdd.point.TransactionType.*;
 
 @Service
 @RequiredArgsConstructor
 public class PointService {
+    private static final Logger log = LoggerFactory.getLogger(PointService.class);
+    static final int MAX_HISTORY_PAGE_SIZE = 1000;
+    /** 요청 기한이 없음을 나타내는 deadlineNanos 값 */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final BalanceStore balanceStore;
+    private final HistoryStore historyStore;
     private final UserLockManager lockManager;
+    private final UserVersionManager versionManager;
+    private final UserCommandMailbox commandMailbox;
+    private final PointCommandBatcher commandBatcher;
+    private final PointHistoryWriteBehind historyWriteBehind;
+    private final UserPointCache userPointCache;
+    private final UserPointReadCoalescer readCoalescer;
+    private final PointWriteExecutor writeExecutor;
+    private final PointMetrics metrics;
+    // 호출마다 메서드 참조가 만들어지지 않도록 필드로 보관
+    private final LongFunction<UserPoint> storeLoader = this::loadFromStore;
 
+    /**
+     * 포인트를 조회합니다. 조회 합치기를 사용하면 같은 사용자의 동시 조회는 저장소 조회 한 번의 결과를 함께 받습니다.
+     */
     public UserPoint selectById(long id) {
-        return userPointTable.selectById(id);
+        UserPoint cached = userPointCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        if (readCoalescer.isEnabled()) {
+            return readCoalescer.read(id, storeLoader);
+        }
+        return loadFromStore(id);
+    }
+
+    private UserPoint loadFromStore(long id) {
+        long writeStamp = userPointCache.writeStamp(id);
+        long startNanos = System.nanoTime();
+        UserPoint userPoint = balanceStore.selectById(id);
+        metrics.recordSelect(System.nanoTime() - startNanos);
+        userPointCache.fill(id, userPoint, writeStamp);
+        return userPoint;
     }
 
     public List<PointHistory> selectHistoriesByUserId(long id) {
-        return pointHistoryTable.selectAllByUserId(id);
+        if (historyWriteBehind.isEnabled()) {
+            return historyWriteBehind.selectAllByUserId(id);
+        }
+        return historyStore.selectAllByUserId(id);
+    }
+
+    /**
+     * 포인트 이력을 id 커서 기준으로 나누어 조회합니다. (id 가 cursor 보다 크고 updateMillis 가 [from, to) 구간인 이력)
+     * write-behind 사용 시 아직 저장되지 않은 이력은 저장된 이후부터 페이지에 포함됩니다.
+     */
+    public PointHistoryPage selectHistoryPageByUserId(long id, long cursor, int limit, long from, long to) {
+        if (limit < 1 || limit > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_HISTORY_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return historyStore.selectPageByUserId(id, cursor, limit, from, to);
     }
 
     public UserPoint charge(long userId, long chargeAmount) {
-        ReentrantLock lock = lockManager.getLock(userId);
-        lock.lock();
-        try {
-            UserPoint userPoint = selectById(userId);
+        return charge(userId, chargeAmount, NO_DEADLINE);
+    }
+
+    /**
+     * 포인트를 충전합니다. 사용자 락은 최대 대기 시간과 요청 기한(System.nanoTime 기준) 중 이른 시각까지만 기다리고,
+     * 그 안에 얻지 못하면 {@link LockTimeoutException} 을 던집니다.
+     */
+    public UserPoint charge(long userId, long chargeAmount, long deadlineNanos) {
+        if (commandBatcher.isEnabled()) {
+            return executeBatched(new PointCommand(userId, CHARGE, chargeAmount), LockProperties.Operation.CHARGE, deadlineNanos);
+        }
+        return apply(userId, CHARGE, chargeAmount, LockProperties.Operation.CHARGE, deadlineNanos);
+    }
 
-            userPoint.validate(CHARGE, chargeAmount);
+    public UserPoint use(long userId, long useAmount) {
+        return use(userId, useAmount, NO_DEADLINE);
+    }
 
-            // 포인트 업데이트
-            long updatedPoint = userPoint.point() + chargeAmount;
-            userPoint = userPointTable.insertOrUpdate(userPoint.id(), updatedPoint);
+    /**
+     * 포인트를 사용합니다. 락 대기 기한은 {@link #charge(long, long, long)} 와 같습니다.
+     */
+    public UserPoint use(long userId, long useAmount, long deadlineNanos) {
+        if (commandBatcher.isEnabled()) {
+            return executeBatched(new PointCommand(userId, USE, useAmount), LockProperties.Operation.USE, deadlineNanos);
+        }
+        return apply(userId, USE, useAmount, LockProperties.Operation.USE, deadlineNanos);
+    }
 
-            // 포인트 이력 기록
-            recordPointHistory(userId, chargeAmount, TransactionType.CHARGE);
+    /**
+     * 그룹 커밋으로 충전/사용을 반영합니다. 사용자 락 대기 기한은 그룹 커밋을 사용하지 않을 때와 같습니다.
+     */
+    private UserPoint executeBatched(PointCommand command, LockProperties.Operation operation, long deadlineNanos) {
+        try {
+            return commandBatcher.execute(command, lockDeadline(operation, deadlineNanos), this::applyBatch);
+        } catch (LockTimeoutException e) {
+            metrics.recordLockTimeout();
+            throw e;
+        }
+    }
 
-            return userPoint;
+    /**
+     * 충전/사용을 반영합니다.
+     * 낙관적 충전/사용을 사용하면 먼저 사용자 락 없이 버전 비교로 반영하고, 충돌이 이어지거나 충돌이 잦은 사용자는 사용자 락으로 반영합니다.
+     */
+    private UserPoint apply(long userId, TransactionType type, long amount, LockProperties.Operation operation, long deadlineNanos) {
+        if (!versionManager.isEnabled()) {
+            return applyLocked(null, userId, type, amount, operation, deadlineNanos);
+        }
+        // 버전은 처음 읽을 때부터 반영을 마칠 때까지 참조해야, 그 사이 제거되어 새 버전(0 부터 다시 시작)과 비교되지 않음
+        UserVersionManager.UserVersion version = versionManager.getVersion(userId);
+        try {
+            if (version.preferOptimistic()) {
+                UserPoint userPoint = applyOptimistic(version, userId, type, amount);
+                if (userPoint != null) {
+                    return userPoint;
+                }
+            }
+            return applyLocked(version, userId, type, amount, operation, deadlineNanos);
         } finally {
-            lock.unlock();
+            versionManager.release(userId);
         }
     }
 
-    public UserPoint use(long userId, long useAmount) {
+    /**
+     * 사용자 락을 잡고 충전/사용을 반영합니다. 낙관적 충전/사용을 사용하면 락을 잡은 뒤 버전도 잡습니다.
+     */
+    private UserPoint applyLocked(UserVersionManager.UserVersion version, long userId, TransactionType type, long amount,
+                                  LockProperties.Operation operation, long deadlineNanos) {
         ReentrantLock lock = lockManager.getLock(userId);
-        lock.lock();
+        if (!acquire(lock, userId, lockDeadline(operation, deadlineNanos))) {
+            lockManager.release(userId);
+            throw lockTimeout(userId);
+        }
+        if (version != null) {
+            version.claim();
+        }
+        boolean written = false;
         try {
             UserPoint userPoint = selectById(userId);
 
             // 유효성 검증
-            userPoint.validate(USE, useAmount);
+            validate(userPoint, type, amount);
+
+            // 포인트 업데이트 및 이력 기록
+            written = true;
+            long updatedPoint = type == CHARGE ? userPoint.point() + amount : userPoint.point() - amount;
+            return updatePointAndRecordHistory(userPoint, updatedPoint, amount, type);
+        } finally {
+            finishVersion(version, written);
+            lock.unlock();
+            lockManager.release(userId);
+        }
+    }
+
+    /**
+     * 사용자 락 없이 충전/사용을 반영합니다. 읽은 버전이 반영 직전까지 그대로일 때만 반영하고,
+     * 충돌이 maxConflicts 번 이어지면 null 을 반환하여 사용자 락으로 처리하게 합니다.
+     */
+    private UserPoint applyOptimistic(UserVersionManager.UserVersion version, long userId, TransactionType type, long amount) {
+        for (int conflicts = 0; conflicts < versionManager.getMaxConflicts(); conflicts++) {
+            long sequence = version.read();
+            if (sequence >= 0) {
+                UserPoint userPoint = selectById(userId);
+                try {
+                    userPoint.validate(type, amount);
+                } catch (PointValidationException e) {
+                    // 반영 도중(되돌려질 수 있는) 값으로 거절하지 않도록, 읽은 버전이 그대로일 때만 거절
+                    if (version.isCurrent(sequence)) {
+                        metrics.recordRejection(type, e.getReason());
+                        throw e;
+                    }
+                    sequence = -1;
+                }
+                if (version.tryClaim(sequence)) {
+                    version.recordAttempt(false);
+                    try {
+                        long updatedPoint = type == CHARGE ? userPoint.point() + amount : userPoint.point() - amount;
+                        return updatePointAndRecordHistory(userPoint, updatedPoint, amount, type);
+                    } finally {
+                        version.publish();
+                    }
+                }
+            }
+            version.recordAttempt(true);
+            Thread.onSpinWait();
+        }
+        versionManager.recordFallback();
+        return null;
+    }
 
-            // 포인트 업데이트
-            long updatedPoint = userPoint.point() - useAmount;
-            userPoint = userPointTable.insertOrUpdate(userPoint.id(), updatedPoint);
+    private static void finishVersion(UserVersionManager.UserVersion version, boolean written) {
+        if (version == null) {
+            return;
+        }
+        if (written) {
+            version.publish();
+        } else {
+            version.abort();
+        }
+    }
 
-            // 포인트 이력 기록
-            recordPointHistory(userId, useAmount, TransactionType.USE);
+    /**
+     * 한 사용자의 포인트를 다른 사용자에게 이체합니다.
+     * 두 사용자의 락을 모두 보유한 상태에서 검증과 반영을 수행하므로, 중간 상태(차감만 되고 충전되지 않은 상태)가 보이지 않습니다.
+     */
+    public PointTransferResult transfer(long fromUserId, long toUserId, long amount) {
+        return transfer(fromUserId, toUserId, amount, NO_DEADLINE);
+    }
 
-            return userPoint;
+    /**
+     * 포인트를 이체합니다. 두 락을 합쳐 같은 기한까지만 기다립니다. (기한은 {@link #charge(long, long, long)} 와 같음)
+     */
+    public PointTransferResult transfer(long fromUserId, long toUserId, long amount, long deadlineNanos) {
+        if (fromUserId == toUserId) {
+            throw new IllegalArgumentException("자기 자신에게는 포인트를 이체할 수 없습니다.");
+        }
+
+        // 항상 userId 가 작은 사용자의 락부터 획득하여, A→B 와 B→A 이체가 서로의 락을 기다리며 교착되지 않게 함
+        long firstUserId = Math.min(fromUserId, toUserId);
+        long secondUserId = Math.max(fromUserId, toUserId);
+        ReentrantLock firstLock = lockManager.getLock(firstUserId);
+        ReentrantLock secondLock = lockManager.getLock(secondUserId);
+        long lockDeadline = lockDeadline(LockProperties.Operation.TRANSFER, deadlineNanos);
+        if (!acquire(firstLock, firstUserId, lockDeadline)) {
+            lockManager.release(secondUserId);
+            lockManager.release(firstUserId);
+            throw lockTimeout(firstUserId);
+        }
+        try {
+            if (!acquire(secondLock, secondUserId, lockDeadline)) {
+                throw lockTimeout(secondUserId);
+            }
+            // 낙관적 충전/사용과 겹치지 않도록 두 사용자의 버전도 락과 같은 순서로 잡음
+            UserVersionManager.UserVersion firstVersion = versionManager.isEnabled() ? versionManager.getVersion(firstUserId) : null;
+            UserVersionManager.UserVersion secondVersion = versionManager.isEnabled() ? versionManager.getVersion(secondUserId) : null;
+            if (firstVersion != null) {
+                firstVersion.claim();
+                secondVersion.claim();
+            }
+            boolean written = false;
+            try {
+                UserPoint sender = selectById(fromUserId);
+                UserPoint receiver = selectById(toUserId);
+
+                // 유효성 검증 (보내는 사용자는 잔액, 받는 사용자는 최대 포인트)
+                validate(sender, USE, amount);
+                validate(receiver, CHARGE, amount);
+
+                // 포인트 업데이트 및 이력 기록
+                written = true;
+                UserPoint updatedSender = updatePointAndRecordHistory(sender, sender.point() - amount, amount, USE);
+                UserPoint updatedReceiver;
+                try {
+                    updatedReceiver = updatePointAndRecordHistory(receiver, receiver.point() + amount, amount, CHARGE);
+                } catch (RuntimeException e) {
+                    // 받는 사용자 반영 실패: 보내는 사용자의 차감을 되돌림
+                    log.warn("포인트 이체 반영에 실패하여 차감을 되돌립니다. fromUserId={}, toUserId={}", fromUserId, toUserId);
+                    compensate(e, () -> updatePointAndRecordHistory(updatedSender, sender.point(), amount, CHARGE));
+                    throw e;
+                }
+                return new PointTransferResult(updatedSender, updatedReceiver);
+            } finally {
+                finishVersion(secondVersion, written);
+                finishVersion(firstVersion, written);
+                if (versionManager.isEnabled()) {
+                    versionManager.release(secondUserId);
+                    versionManager.release(firstUserId);
+                }
+                secondLock.unlock();
+            }
         } finally {
-            lock.unlock();
+            firstLock.unlock();
+            lockManager.release(secondUserId);
+            lockManager.release(firstUserId);
         }
     }
 
+    /**
+     * 검증을 마친 포인트 변경을 반영합니다. (사용자 락을 보유한 상태에서 호출)
+     * 동시 쓰기를 사용하면 포인트 업데이트와 이력 기록을 동시에 수행하여 락 보유 시간을 두 쓰기 중 긴 쪽으로 줄이고,
+     * 한쪽만 실패하면 성공한 쪽을 되돌려 포인트와 이력이 어긋나지 않게 합니다.
+     */
+    private UserPoint updatePointAndRecordHistory(UserPoint current, long updatedPoint, long amount, TransactionType type) {
+        long userId = current.id();
+        PointTransactionStore transactionStore = transactionStore();
+        if (transactionStore != null) {
+            // 포인트와 이력을 한 번에 기록할 수 있는 저장소이면 한 건으로 기록
+            UserPoint userPoint = updatePointWithHistory(transactionStore, userId, updatedPoint, amount, type);
+            userPointCache.put(userPoint);
+            return userPoint;
+        }
+        if (!writeExecutor.isEnabled()) {
+            UserPoint userPoint = updatePoint(userId, updatedPoint);
+            userPointCache.put(userPoint);
+            try {
+                recordPointHistory(userId, amount, type);
+            } catch (RuntimeException e) {
+                // 이력 기록 실패: 포인트를 변경 전으로 되돌림
+                log.warn("포인트 이력 기록에 실패하여 포인트를 되돌립니다. userId={}", userId);
+                compensate(e, () -> userPointCache.put(updatePoint(userId, current.point())));
+                throw e;
+            }
+            return userPoint;
+        }
+
+        // 이력 기록만 실행기에 맡기고 포인트 업데이트는 호출한 스레드에서 수행 (실행기에는 쓰기 한 건당 작업 하나)
+        CompletableFuture<Void> historyWrite = writeExecutor.submit(() -> {
+            recordPointHistory(userId, amount, type);
+            return null;
+        });
+        UserPoint userPoint = null;
+        RuntimeException pointError = null;
+        try {
+            userPoint = updatePoint(userId, updatedPoint);
+        } catch (RuntimeException e) {
+            pointError = e;
+        }
+        RuntimeException historyError = awaitWrite(historyWrite);
+
+        if (pointError == null && historyError == null) {
+            userPointCache.put(userPoint);
+            return userPoint;
+        }
+        if (pointError == null) {
+            // 이력 기록 실패: 포인트를 변경 전으로 되돌림 (되돌리기도 실패해도 캐시가 저장소와 같도록 먼저 캐시에 반영)
+            userPointCache.put(userPoint);
+            log.warn("포인트 이력 기록에 실패하여 포인트를 되돌립니다. userId={}", userId);
+            compensate(historyError, () -> userPointCache.put(updatePoint(userId, current.point())));
+            throw historyError;
+        }
+        if (historyError == null) {
+            // 포인트 업데이트 실패: 기록된 이력을 상쇄하는 이력을 남김
+            log.warn("포인트 업데이트에 실패하여 상쇄 이력을 기록합니다. userId={}", userId);
+            compensate(pointError, () -> recordPointHistory(userId, amount, type.opposite()));
+        } else {
+            pointError.addSuppressed(historyError);
+        }
+        throw pointError;
+    }
+
+    /**
+     * 보상 작업을 수행합니다. 보상도 실패하면 원래 예외를 그대로 던질 수 있도록 보상 실패는 원래 예외에 덧붙입니다.
+     */
+    private static void compensate(RuntimeException cause, Runnable compensation) {
+        try {
+            compensation.run();
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static RuntimeException awaitWrite(CompletableFuture<?> write) {
+        try {
+            write.join();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 그룹 커밋으로 묶인 같은 사용자의 명령을 반영합니다. (사용자 락을 보유한 상태에서 호출)
+     * 조회와 포인트 업데이트는 한 번만 수행하고, 검증과 이력 기록은 명령마다 순서대로 수행합니다.
+     * 각 명령의 결과는 묶음 전체의 기록을 마친 뒤에 완료하며, 기록이 실패하면 예외를 던지고 처리기(PointCommandBatcher)가 남은 명령을 실패로 완료합니다.
+     */
+    void applyBatch(List<PointCommand> batch) {
+        long userId = batch.get(0).userId();
+        UserPoint userPoint = selectById(userId);
+
+        // 유효성 검증 (실패한 명령만 개별적으로 실패 처리)
+        List<PointCommand> accepted = new ArrayList<>();
+        List<Long> pointsAfter = new ArrayList<>();
+        long point = userPoint.point();
+        for (PointCommand command : batch) {
+            try {
+                validate(new UserPoint(userId, point, userPoint.updateMillis()), command.type(), command.amount());
+            } catch (IllegalArgumentException e) {
+                command.result().completeExceptionally(e);
+                continue;
+            }
+            point += command.type() == CHARGE ? command.amount() : -command.amount();
+            accepted.add(command);
+            pointsAfter.add(point);
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // 포인트 업데이트 및 이력 기록 후, 각 명령에는 자신이 반영된 직후의 포인트를 반환
+        UserPoint updated = updatePointAndRecordHistories(userPoint, accepted, pointsAfter);
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).result().complete(new UserPoint(userId, pointsAfter.get(i), updated.updateMillis()));
+        }
+    }
+
+    /**
+     * 묶인 명령의 포인트와 이력을 반영합니다. (updatePointAndRecordHistory 의 묶음판, pointsAfter 는 명령마다 반영 직후의 포인트)
+     * 포인트와 이력을 한 번에 기록할 수 있는 저장소이면 묶음 전체를 그 저장소에 한 번에 넘깁니다.
+     * 그렇지 않으면 포인트는 마지막 값으로 한 번만 업데이트하고 이력은 명령마다 기록하며,
+     * 이력 기록이 실패하면 포인트를 변경 전으로 되돌리고 이미 기록된 이력은 상쇄 이력으로 지워 포인트와 이력이 어긋나지 않게 합니다.
+     */
+    private UserPoint updatePointAndRecordHistories(UserPoint current, List<PointCommand> commands, List<Long> pointsAfter) {
+        long userId = current.id();
+        PointTransactionStore transactionStore = transactionStore();
+        if (transactionStore != null) {
+            long startNanos = System.nanoTime();
+            UserPoint userPoint = transactionStore.insertOrUpdateWithHistories(userId, commands, pointsAfter, System.currentTimeMillis());
+            metrics.recordUpdate(System.nanoTime() - startNanos);
+            if (readCoalescer.isEnabled()) {
+                readCoalescer.invalidate(userId);
+            }
+            userPointCache.put(userPoint);
+            return userPoint;
+        }
+        UserPoint userPoint = updatePoint(userId, pointsAfter.get(pointsAfter.size() - 1));
+        userPointCache.put(userPoint);
+        int recorded = 0;
+        try {
+            for (PointCommand command : commands) {
+                recordPointHistory(userId, command.amount(), command.type());
+                recorded++;
+            }
+        } catch (RuntimeException e) {
+            log.warn("포인트 이력 기록에 실패하여 묶인 명령을 되돌립니다. userId={}, recordedHistories={}", userId, recorded);
+            compensate(e, () -> userPointCache.put(updatePoint(userId, current.point())));
+            List<PointCommand> written = commands.subList(0, recorded);
+            compensate(e, () -> written.forEach(command -> recordPointHistory(userId, command.amount(), command.type().opposite())));
+            throw e;
+        }
+        return userPoint;
+    }
+
+    /**
+     * 사용자 메일박스에 충전 명령을 넣고 바로 반환합니다. 같은 사용자의 명령은 도착 순서대로 처리됩니다.
+     * 동기 호출(charge/use)과 섞여도 안전하도록 명령은 같은 사용자 락 안에서 실행됩니다.
+     */
+    public CompletableFuture<UserPoint> chargeAsync(long userId, long chargeAmount) {
+        return commandMailbox.submit(userId, () -> charge(userId, chargeAmount));
+    }
+
+    /**
+     * 사용자 메일박스에 사용 명령을 넣고 바로 반환합니다. 같은 사용자의 명령은 도착 순서대로 처리됩니다.
+     */
+    public CompletableFuture<UserPoint> useAsync(long userId, long useAmount) {
+        return commandMailbox.submit(userId, () -> use(userId, useAmount));
+    }
 
     public void recordPointHistory(long userId, long amount, TransactionType type) {
-        pointHistoryTable.insert(userId, amount, type, System.currentTimeMillis());
+        long startNanos = System.nanoTime();
+        if (historyWriteBehind.isEnabled()) {
+            historyWriteBehind.enqueue(userId, amount, type, System.currentTimeMillis());
+        } else {
+            historyStore.insert(userId, amount, type, System.currentTimeMillis());
+        }
+        metrics.recordHistoryInsert(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 포인트와 이력 저장소가 같고 그 저장소가 한 번에 기록할 수 있으면 반환합니다. (이력 write-behind 사용 시에는 이력을 나중에 기록하므로 제외)
+     */
+    private PointTransactionStore transactionStore() {
+        if (balanceStore == historyStore && balanceStore instanceof PointTransactionStore transactionStore && !historyWriteBehind.isEnabled()) {
+            return transactionStore;
+        }
+        return null;
+    }
+
+    private UserPoint updatePointWithHistory(PointTransactionStore transactionStore, long userId, long point, long amount, TransactionType type) {
+        long startNanos = System.nanoTime();
+        UserPoint userPoint = transactionStore.insertOrUpdateWithHistory(userId, point, amount, type, System.currentTimeMillis());
+        metrics.recordUpdate(System.nanoTime() - startNanos);
+        if (readCoalescer.isEnabled()) {
+            readCoalescer.invalidate(userId);
+        }
+        return userPoint;
+    }
+
+    private UserPoint updatePoint(long userId, long point) {
+        long startNanos = System.nanoTime();
+        UserPoint userPoint = balanceStore.insertOrUpdate(userId, point);
+        metrics.recordUpdate(System.nanoTime() - startNanos);
+        if (readCoalescer.isEnabled()) {
+            readCoalescer.invalidate(userId);
+        }
+        return userPoint;
+    }
+
+    /**
+     * 작업의 최대 대기 시간과 요청 기한 중 이른 시각을 락 대기 기한으로 반환합니다. 둘 다 없으면 NO_DEADLINE 입니다.
+     */
+    private long lockDeadline(LockProperties.Operation operation, long deadlineNanos) {
+        long maxWaitNanos = lockManager.getMaxWaitNanos(operation);
+        if (maxWaitNanos <= 0) {
+            return deadlineNanos;
+        }
+        long maxWaitDeadline = System.nanoTime() + maxWaitNanos;
+        // nanoTime 은 넘칠 수 있으므로 차이로 비교
+        return deadlineNanos == NO_DEADLINE || maxWaitDeadline - deadlineNanos < 0 ? maxWaitDeadline : deadlineNanos;
+    }
+
+    /**
+     * 기한까지 사용자 락을 기다리고, 얻었는지를 반환합니다. 기한이 없으면 얻을 때까지 기다립니다.
+     */
+    private boolean acquire(ReentrantLock lock, long userId, long deadlineNanos) {
+        long startNanos = System.nanoTime();
+        boolean acquired;
+        if (deadlineNanos == NO_DEADLINE) {
+            UserLockEvent.lock(lock, userId);
+            acquired = true;
+        } else {
+            acquired = UserLockEvent.tryLock(lock, userId, deadlineNanos - startNanos);
+        }
+        metrics.recordLockWait(System.nanoTime() - startNanos);
+        return acquired;
+    }
+
+    private LockTimeoutException lockTimeout(long userId) {
+        metrics.recordLockTimeout();
+        return new LockTimeoutException(userId);
+    }
+
+    /**
+     * 포인트 변경을 검증하고, 거절되면 거절 사유를 집계한 뒤 그대로 던집니다.
+     */
+    private void validate(UserPoint userPoint, TransactionType type, long amount) {
+        try {
+            userPoint.validate(type, amount);
+        } catch (PointValidationException e) {
+            metrics.recordRejection(type, e.getReason());
+            throw e;
+        }
     }
 
 }
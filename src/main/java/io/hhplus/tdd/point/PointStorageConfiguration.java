@@ -0,0 +1,59 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.ColumnarPointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.wal.WalPointStore;
+import io.hhplus.tdd.database.wal.WalProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * point.storage.engine 설정에 따라 BalanceStore / HistoryStore 구현을 하나씩 등록
+ */
+@Configuration(proxyBeanMethods = false)
+public class PointStorageConfiguration {
+    private static final String ENGINE = "point.storage.engine";
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = ENGINE, havingValue = "table", matchIfMissing = true)
+    static class TableStorage {
+        @Bean
+        TableBalanceStore tableBalanceStore(UserPointTable userPointTable) {
+            return new TableBalanceStore(userPointTable);
+        }
+
+        @Bean
+        TableHistoryStore tableHistoryStore(PointHistoryTable pointHistoryTable) {
+            return new TableHistoryStore(pointHistoryTable);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = ENGINE, havingValue = "wal")
+    static class WalStorage {
+        // 포인트와 이력을 같은 로그에 기록하므로 하나의 빈이 두 저장소를 모두 제공
+        @Bean
+        WalPointStore walPointStore(WalProperties properties) {
+            if (!properties.enabled()) {
+                throw new IllegalStateException("WAL 저장소를 사용하려면 point.wal.enabled=true 로 설정해야 합니다.");
+            }
+            return new WalPointStore(properties);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = ENGINE, havingValue = "primitive")
+    static class PrimitiveStorage {
+        @Bean
+        PrimitiveBalanceStore primitiveBalanceStore() {
+            return new PrimitiveBalanceStore();
+        }
+
+        @Bean
+        ColumnarPointHistoryStore columnarPointHistoryStore() {
+            return new ColumnarPointHistoryStore();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * UserPointTable / PointHistoryTable 호출 JFR 이벤트 (이벤트 시간 = 호출 소요 시간)
+ * - 기본으로 꺼져 있고, jfr/point.jfc 설정으로 기록을 켬
+ */
+@Name(PointTableCallEvent.NAME)
+@Label("Point Table Call")
+@Category({"Point", "Table"})
+@Description("포인트/이력 테이블 호출 소요 시간")
+@Enabled(false)
+@StackTrace(false)
+class PointTableCallEvent extends Event {
+    static final String NAME = "io.hhplus.tdd.point.PointTableCall";
+
+    @Label("Table")
+    String table;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("User Id")
+    long userId;
+
+    /**
+     * 호출이 끝난 뒤 호출하며, 기록 중이면 이벤트를 남깁니다.
+     */
+    void end(String table, String operation, long userId) {
+        end();
+        if (shouldCommit()) {
+            this.table = table;
+            this.operation = operation;
+            this.userId = userId;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 변경과 그 이력을 한 번에 기록할 수 있는 저장소
+ * - 포인트 저장소와 이력 저장소가 같은 구현일 때, PointService 는 충전/사용 한 건을 이 메서드로 한 번에 기록
+ * - 중간에 중단되어도 포인트만 바뀌고 이력이 없는 상태가 남지 않아야 함
+ */
+public interface PointTransactionStore {
+
+    /**
+     * 사용자의 포인트를 point 로 바꾸고, amount 만큼의 type 이력을 함께 기록합니다.
+     */
+    UserPoint insertOrUpdateWithHistory(long userId, long point, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * 그룹 커밋으로 묶인 같은 사용자의 명령을 순서대로 기록하고 마지막 포인트를 반환합니다.
+     * points 의 i 번째 값은 commands 의 i 번째 명령을 반영한 직후의 포인트이며, 기본 구현은 한 건씩 기록합니다.
+     */
+    default UserPoint insertOrUpdateWithHistories(long userId, List<PointCommand> commands, List<Long> points, long updateMillis) {
+        UserPoint userPoint = null;
+        for (int i = 0; i < commands.size(); i++) {
+            PointCommand command = commands.get(i);
+            userPoint = insertOrUpdateWithHistory(userId, points.get(i), command.amount(), command.type(), updateMillis);
+        }
+        return userPoint;
+    }
+}
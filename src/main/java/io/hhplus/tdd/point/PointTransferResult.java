@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 이체 결과 (이체 직후 보내는 사용자와 받는 사용자의 포인트)
+ */
+public record PointTransferResult(
+        UserPoint sender,
+        UserPoint receiver
+) {
+}
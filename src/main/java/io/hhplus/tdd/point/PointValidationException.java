@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 변경 검증 실패
+ * - 기존처럼 IllegalArgumentException 으로 처리되며, 거절 사유별 집계를 위해 사유를 함께 가짐
+ */
+public class PointValidationException extends IllegalArgumentException {
+    private final Reason reason;
+
+    public PointValidationException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public enum Reason {
+        INVALID_AMOUNT, MAX_POINT_EXCEEDED, INSUFFICIENT_POINT
+    }
+}
@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 업데이트와 이력 기록을 동시에 수행하기 위한 전용 실행기
+ * - 사용자 락을 보유한 스레드가 쓰기를 맡기고 기다리므로, 다른 작업과 스레드를 공유하지 않음
+ * - 쓰기 한 건당 작업 하나(이력 기록)만 맡기고, 남는 스레드가 없으면 큐에 쌓지 않고 맡긴 스레드에서 바로 수행
+ *   (다른 사용자의 쓰기 뒤에서 기다리지 않음)
+ */
+@Component
+public class PointWriteExecutor {
+    private final boolean enabled;
+    private final ExecutorService executor;
+
+    public PointWriteExecutor(ParallelWriteProperties properties) {
+        this.enabled = properties.enabled();
+        if (!enabled) {
+            this.executor = null;
+        } else if (properties.virtualThreads()) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("point-writer-", 1).factory());
+        } else {
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(properties.threads(), properties.threads(), 0, TimeUnit.MILLISECONDS,
+                    new SynchronousQueue<>(),
+                    runnable -> new Thread(runnable, "point-writer-" + threadNumber.incrementAndGet()),
+                    // 종료 중에도 버리지 않고 수행 (버리면 맡긴 스레드가 결과를 영원히 기다림)
+                    (task, pool) -> task.run());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> write) {
+        return CompletableFuture.supplyAsync(write, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
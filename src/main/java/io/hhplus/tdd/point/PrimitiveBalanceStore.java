@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point;
+
+/**
+ * long 키 맵 기반 포인트 저장소
+ * - UserPointTable 과 같은 동작을 메모리에서 지연 없이 제공 (point.storage.engine=primitive)
+ * - 사용자 id 를 박싱하지 않으므로 조회에 할당이 없음 (포인트가 없는 사용자는 UserPoint.empty 를 반환)
+ */
+public class PrimitiveBalanceStore implements BalanceStore {
+    private final LongConcurrentMap<UserPoint> balances = new LongConcurrentMap<>();
+
+    @Override
+    public UserPoint selectById(long id) {
+        UserPoint userPoint = balances.get(id);
+        return userPoint == null ? UserPoint.empty(id) : userPoint;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        balances.put(id, userPoint);
+        return userPoint;
+    }
+
+    public int size() {
+        return balances.size();
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 조회 합치기 설정
+ * - enabled : 같은 사용자의 동시 조회가 저장소 조회 한 번을 함께 기다리게 할지 여부
+ */
+@ConfigurationProperties(prefix = "point.read-coalescing")
+public record ReadCoalescingProperties(
+        @DefaultValue("false") boolean enabled
+) {
+}
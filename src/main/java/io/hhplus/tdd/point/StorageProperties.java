@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 저장소 설정
+ * - engine : 포인트와 이력을 저장할 저장소 구현
+ *   - TABLE : UserPointTable / PointHistoryTable (기본값)
+ *   - WAL : 로그 기반 저장소 (point.wal.enabled=true 필요, wal 프로필로 함께 설정 가능)
+ *   - PRIMITIVE : long 키 맵 포인트 저장소 / 열 단위 이력 저장소
+ */
+@ConfigurationProperties(prefix = "point.storage")
+public record StorageProperties(
+        @DefaultValue("TABLE") Engine engine
+) {
+    public enum Engine {
+        TABLE, WAL, PRIMITIVE
+    }
+}
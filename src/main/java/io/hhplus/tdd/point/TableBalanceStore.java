@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.UserPointTable;
+
+/**
+ * UserPointTable 을 사용하는 기본 포인트 저장소
+ * - 테이블 호출마다 소요 시간을 JFR 이벤트(PointTableCallEvent)로 남길 수 있음
+ */
+public class TableBalanceStore implements BalanceStore {
+    private static final String TABLE = "UserPointTable";
+
+    private final UserPointTable userPointTable;
+
+    public TableBalanceStore(UserPointTable userPointTable) {
+        this.userPointTable = userPointTable;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        PointTableCallEvent event = new PointTableCallEvent();
+        event.begin();
+        UserPoint userPoint = userPointTable.selectById(id);
+        event.end(TABLE, "selectById", id);
+        return userPoint;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        PointTableCallEvent event = new PointTableCallEvent();
+        event.begin();
+        UserPoint userPoint = userPointTable.insertOrUpdate(id, amount);
+        event.end(TABLE, "insertOrUpdate", id);
+        return userPoint;
+    }
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+
+import java.util.List;
+
+/**
+ * PointHistoryTable 을 사용하는 기본 포인트 이력 저장소
+ * - PointHistoryTable 의 사용자별 조회는 전체 이력을 훑으므로, 저장한 이력을 사용자별 인덱스에도 추가하고 조회는 인덱스에서 수행
+ * - 테이블 호출마다 소요 시간을 JFR 이벤트(PointTableCallEvent)로 남길 수 있음
+ */
+public class TableHistoryStore implements HistoryStore {
+    private static final String TABLE = "PointHistoryTable";
+
+    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryIndex historyIndex;
+
+    public TableHistoryStore(PointHistoryTable pointHistoryTable) {
+        this(pointHistoryTable, new PointHistoryIndex());
+    }
+
+    TableHistoryStore(PointHistoryTable pointHistoryTable, PointHistoryIndex historyIndex) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.historyIndex = historyIndex;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointTableCallEvent event = new PointTableCallEvent();
+        event.begin();
+        PointHistory pointHistory = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        event.end(TABLE, "insert", userId);
+        historyIndex.append(pointHistory);
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return historyIndex.selectAllByUserId(userId);
+    }
+
+    @Override
+    public PointHistoryPage selectPageByUserId(long userId, long cursor, int limit, long from, long to) {
+        return historyIndex.selectPageByUserId(userId, cursor, limit, from, to);
+    }
+}
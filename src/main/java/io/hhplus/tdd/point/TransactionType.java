@@ -7,5 +7,12 @@ package io.hhplus.tdd.point;
  * - USE : 사용
  */
 public enum TransactionType {
-    CHARGE, USE
+    CHARGE, USE;
+
+    /**
+     * 반대 방향의 트랜잭션 종류 (변경을 상쇄하는 이력을 남길 때 사용)
+     */
+    public TransactionType opposite() {
+        return this == CHARGE ? USE : CHARGE;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 메일박스 실행 엔진
+ * - 사용자마다 명령 큐(메일박스)를 두고, 작은 실행기가 메일박스를 도착 순서대로 비움
+ * - 한 사용자의 메일박스는 동시에 하나의 스레드만 처리하므로 같은 사용자의 명령은 순차 처리
+ * - 호출한 스레드는 대기하지 않고 CompletableFuture 로 결과를 받음
+ */
+@Component
+public class UserCommandMailbox {
+    private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private final int drainBatchSize;
+    private final boolean enabled;
+
+    public UserCommandMailbox(MailboxProperties properties) {
+        if (properties.virtualThreads()) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("point-mailbox-", 1).factory());
+        } else {
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(properties.threads(),
+                    runnable -> new Thread(runnable, "point-mailbox-" + threadNumber.incrementAndGet()));
+        }
+        this.drainBatchSize = properties.drainBatchSize();
+        this.enabled = properties.enabled();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                future.complete(command.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+
+        // 메일박스 제거와 적재가 겹치지 않도록 compute 안에서 적재
+        Mailbox mailbox = mailboxes.compute(userId, (k, current) -> {
+            Mailbox target = current == null ? new Mailbox(k) : current;
+            target.queue.offer(task);
+            return target;
+        });
+        schedule(mailbox);
+        return future;
+    }
+
+    public int getActiveMailboxCount() {
+        return mailboxes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void schedule(Mailbox mailbox) {
+        if (mailbox.scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> drain(mailbox));
+        }
+    }
+
+    private void drain(Mailbox mailbox) {
+        for (int i = 0; i < drainBatchSize; i++) {
+            Runnable task = mailbox.queue.poll();
+            if (task == null) {
+                break;
+            }
+            task.run();
+        }
+        mailbox.scheduled.set(false);
+
+        // 비어있으면 제거, 남아있으면(또는 그 사이에 적재되었으면) 다시 스케줄
+        mailboxes.computeIfPresent(mailbox.userId, (k, current) ->
+                current == mailbox && mailbox.queue.isEmpty() ? null : current);
+        if (!mailbox.queue.isEmpty()) {
+            schedule(mailbox);
+        }
+    }
+
+    private static class Mailbox {
+        private final long userId;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(long userId) {
+            this.userId = userId;
+        }
+    }
+}
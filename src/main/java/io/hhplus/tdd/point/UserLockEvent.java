@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 락 획득 JFR 이벤트 (이벤트 시간 = 락을 얻기까지 기다린 시간)
+ * - 기본으로 꺼져 있고, jfr/point.jfc 설정으로 기록을 켬. 꺼져 있을 때는 이벤트 객체가 탈출 분석으로 제거되어 비용이 거의 없음
+ * - 대기열 길이는 기록할 때만 조회, 기한 안에 얻지 못한 경우도 acquired=false 로 기록
+ */
+@Name(UserLockEvent.NAME)
+@Label("User Lock Acquisition")
+@Category({"Point", "Lock"})
+@Description("사용자 락을 얻기까지 기다린 시간")
+@Enabled(false)
+@StackTrace(false)
+class UserLockEvent extends Event {
+    static final String NAME = "io.hhplus.tdd.point.UserLock";
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Acquired")
+    boolean acquired;
+
+    @Label("Queue Length")
+    @Description("락을 얻은 직후 같은 락을 기다리고 있는 스레드 수")
+    int queueLength;
+
+    /**
+     * 사용자 락을 얻고, 기록 중이면 기다린 시간을 이벤트로 남깁니다.
+     */
+    static void lock(ReentrantLock lock, long userId) {
+        UserLockEvent event = new UserLockEvent();
+        event.begin();
+        lock.lock();
+        event.end();
+        event.commit(lock, userId, true);
+    }
+
+    /**
+     * timeoutNanos 동안 사용자 락을 기다리고, 기록 중이면 기다린 시간을 이벤트로 남깁니다.
+     * 기다리는 중 인터럽트되면 인터럽트 상태를 복원하고 얻지 못한 것으로 처리합니다.
+     */
+    static boolean tryLock(ReentrantLock lock, long userId, long timeoutNanos) {
+        UserLockEvent event = new UserLockEvent();
+        event.begin();
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(Math.max(0, timeoutNanos), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        event.end();
+        event.commit(lock, userId, acquired);
+        return acquired;
+    }
+
+    private void commit(ReentrantLock lock, long userId, boolean acquired) {
+        if (shouldCommit()) {
+            this.userId = userId;
+            this.acquired = acquired;
+            this.queueLength = lock.getQueueLength();
+            commit();
+        }
+    }
+}
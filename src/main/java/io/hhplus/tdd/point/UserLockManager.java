@@ -1,16 +1,81 @@
 package io.hhplus.tdd.point;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 사용자별 락 레지스트리
+ * - getLock 으로 락을 참조하는 동안(대기/보유 중)에는 같은 사용자에게 항상 같은 락을 반환
+ * - release 로 마지막 참조가 해제되면 레지스트리에서 제거되어 사용자 수만큼 락이 쌓이지 않음
+ * - 사용자 id 를 박싱하지 않도록 long 키 전용 맵을 사용
+ * - 작업별 최대 대기 시간(point.lock.max-wait)을 함께 제공
+ */
 @Component
 public class UserLockManager {
-    private final ConcurrentHashMap<Long, ReentrantLock> userLocks = new ConcurrentHashMap<>();
+    private final LongConcurrentMap<UserLock> userLocks = new LongConcurrentMap<>();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LockProperties properties;
+    // 호출마다 람다가 만들어지지 않도록 필드로 보관
+    private final LongConcurrentMap.Remapping<UserLock> releaseReference = (k, userLock) -> {
+        if (--userLock.references > 0) {
+            return userLock;
+        }
+        evictionCount.increment();
+        return null;
+    };
 
-    public ReentrantLock getLock(Long userId) {
-        // computeIfAbsent는 원자적 연산으로, 키가 없을 경우에만 새 lock을 생성
-        return userLocks.computeIfAbsent(userId, k -> new ReentrantLock(true));
+    public UserLockManager() {
+        this(LockProperties.UNBOUNDED);
     }
-}
\ No newline at end of file
+
+    @Autowired
+    public UserLockManager(LockProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 사용자의 락을 참조하고 반환합니다.
+     * 사용이 끝나면(unlock 이후) 반드시 {@link #release(long)} 를 호출해야 합니다.
+     */
+    public ReentrantLock getLock(long userId) {
+        // compute는 키 단위로 원자적이므로, 제거와 참조 증가가 겹치지 않음
+        return userLocks.compute(userId, (k, userLock) -> {
+            if (userLock == null) {
+                userLock = new UserLock();
+            }
+            userLock.references++;
+            return userLock;
+        }).lock;
+    }
+
+    /**
+     * getLock 으로 얻은 참조를 해제합니다. 더 이상 참조하는 스레드가 없으면 락을 제거합니다.
+     */
+    public void release(long userId) {
+        userLocks.computeIfPresent(userId, releaseReference);
+    }
+
+    /**
+     * 작업의 사용자 락 최대 대기 시간(나노초)을 반환합니다. 0 이면 제한이 없습니다.
+     */
+    public long getMaxWaitNanos(LockProperties.Operation operation) {
+        return properties.maxWait(operation).toNanos();
+    }
+
+    public int getLiveLockCount() {
+        return userLocks.size();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private static class UserLock {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        // compute 블록 안에서만 변경
+        private int references;
+    }
+}
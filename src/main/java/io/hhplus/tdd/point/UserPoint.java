@@ -13,18 +13,18 @@ public record UserPoint(
 
     public void validate(TransactionType transactionType, long amount) {
         if (amount <= 0) {
-            throw new IllegalArgumentException("충전/사용 포인트는 0보다 커야합니다.");
+            throw new PointValidationException(PointValidationException.Reason.INVALID_AMOUNT, "충전/사용 포인트는 0보다 커야합니다.");
         }
 
         switch (transactionType) {
             case CHARGE -> {
                 if (point + amount > MAX_POINT) {
-                    throw new IllegalArgumentException("포인트가 최대치를 초과했습니다.");
+                    throw new PointValidationException(PointValidationException.Reason.MAX_POINT_EXCEEDED, "포인트가 최대치를 초과했습니다.");
                 }
             }
             case USE -> {
                 if (point - amount < 0) {
-                    throw new IllegalArgumentException("포인트가 부족합니다.");
+                    throw new PointValidationException(PointValidationException.Reason.INSUFFICIENT_POINT, "포인트가 부족합니다.");
                 }
             }
         }
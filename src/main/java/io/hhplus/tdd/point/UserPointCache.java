@@ -0,0 +1,199 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 저장소(BalanceStore) 앞에 두는 크기 제한 포인트 캐시
+ * - 조회: 캐시에 없으면 저장소에서 읽어 채움 (read-through)
+ * - 변경: PointService 가 사용자 락을 보유한 채 저장소에 쓴 값을 바로 반영 (write-through)
+ * - 저장소 조회 도중 같은 구간에 변경이 있었다면 조회한 값은 캐시에 넣지 않으므로, 캐시 값이 저장소보다 오래될 수 없음
+ * - 잠금 경합을 줄이기 위해 사용자 id 로 구간(segment)을 나누어 관리
+ * - 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock 사용
+ */
+@Component
+public class UserPointCache {
+    private static final int SEGMENT_COUNT = 16;
+
+    private final boolean enabled;
+    private final Segment[] segments;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder rejectionCount = new LongAdder();
+
+    public UserPointCache(CacheProperties properties) {
+        this.enabled = properties.enabled();
+        int segmentCapacity = Math.max(1, properties.maximumSize() / SEGMENT_COUNT);
+        boolean tinyLfu = properties.eviction() == CacheProperties.Eviction.TINY_LFU;
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity, tinyLfu);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 포인트를 반환합니다. 캐시가 꺼져 있거나 없으면 null 을 반환합니다.
+     */
+    public UserPoint get(long id) {
+        if (!enabled) {
+            return null;
+        }
+        UserPoint userPoint = segmentOf(id).get(id);
+        if (userPoint == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return userPoint;
+    }
+
+    /**
+     * 저장소를 조회하기 직전에 호출하여, 조회한 값을 {@link #fill} 할 때 넘겨줄 변경 기준값을 받습니다.
+     */
+    public long writeStamp(long id) {
+        return enabled ? segmentOf(id).writeStamp() : 0;
+    }
+
+    /**
+     * 저장소에서 조회한 값을 캐시에 채웁니다. writeStamp 이후 같은 구간에 변경이 있었다면 무시합니다.
+     */
+    public void fill(long id, UserPoint userPoint, long writeStamp) {
+        if (enabled) {
+            segmentOf(id).fill(id, userPoint, writeStamp);
+        }
+    }
+
+    /**
+     * 저장소에 반영한 값을 캐시에 씁니다. (사용자 락을 보유한 상태에서 호출)
+     */
+    public void put(UserPoint userPoint) {
+        if (enabled) {
+            segmentOf(userPoint.id()).put(userPoint);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * TINY_LFU 정책에서 빈도가 낮아 캐시에 들이지 않은 횟수
+     */
+    public long getRejectionCount() {
+        return rejectionCount.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentOf(long id) {
+        return segments[Math.floorMod(Long.hashCode(id * 0x9E3779B97F4A7C15L), SEGMENT_COUNT)];
+    }
+
+    private class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final FrequencySketch sketch;
+        private final LinkedHashMap<Long, UserPoint> entries;
+        private long writeStamp;
+
+        private Segment(int capacity, boolean tinyLfu) {
+            this.capacity = capacity;
+            this.sketch = tinyLfu ? new FrequencySketch(capacity) : null;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        private UserPoint get(long id) {
+            lock.lock();
+            try {
+                if (sketch != null) {
+                    sketch.increment(id);
+                }
+                return entries.get(id);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long writeStamp() {
+            lock.lock();
+            try {
+                return writeStamp;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void fill(long id, UserPoint userPoint, long stamp) {
+            lock.lock();
+            try {
+                if (writeStamp == stamp && !entries.containsKey(id)) {
+                    admit(id, userPoint);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void put(UserPoint userPoint) {
+            lock.lock();
+            try {
+                writeStamp++;
+                if (entries.containsKey(userPoint.id())) {
+                    entries.put(userPoint.id(), userPoint);
+                } else {
+                    admit(userPoint.id(), userPoint);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // lock 을 보유한 상태에서 호출
+        private void admit(long id, UserPoint userPoint) {
+            if (entries.size() >= capacity) {
+                Iterator<Map.Entry<Long, UserPoint>> eldest = entries.entrySet().iterator();
+                long victim = eldest.next().getKey();
+                if (sketch != null && sketch.frequency(id) <= sketch.frequency(victim)) {
+                    rejectionCount.increment();
+                    return;
+                }
+                eldest.remove();
+                evictionCount.increment();
+            }
+            entries.put(id, userPoint);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * 사용자 포인트 조회 합치기 (single-flight)
+ * - 같은 사용자의 조회가 동시에 들어오면 먼저 온 조회만 저장소를 조회하고, 나머지는 그 결과를 함께 받음
+ * - 포인트가 변경되면 진행 중인 조회를 목록에서 빼서, 변경 이후에 들어온 조회가 변경 전 값을 받지 않게 함
+ *   (이미 합류한 조회는 변경과 겹쳐 실행된 것이므로 어느 값을 받아도 됨)
+ * - 저장소 조회가 실패하면 기다리던 조회도 같은 예외로 실패하고, 다음 조회는 다시 저장소를 조회
+ */
+@Component
+public class UserPointReadCoalescer {
+    private final LongConcurrentMap<InFlightRead> inFlightReads = new LongConcurrentMap<>();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder sharedCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+    private final boolean enabled;
+
+    public UserPointReadCoalescer(ReadCoalescingProperties properties) {
+        this.enabled = properties.enabled();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 같은 사용자의 진행 중인 조회가 있으면 그 결과를 기다리고, 없으면 loader 로 조회합니다.
+     */
+    public UserPoint read(long userId, LongFunction<UserPoint> loader) {
+        InFlightRead inFlight = inFlightReads.get(userId);
+        if (inFlight == null) {
+            InFlightRead created = new InFlightRead();
+            inFlight = inFlightReads.putIfAbsent(userId, created);
+            if (inFlight == null) {
+                return load(userId, loader, created);
+            }
+        }
+        sharedCount.increment();
+        return await(inFlight.result);
+    }
+
+    /**
+     * 사용자의 포인트가 변경되었음을 알립니다. (저장소 반영 이후 호출)
+     */
+    public void invalidate(long userId) {
+        if (inFlightReads.remove(userId) != null) {
+            invalidationCount.increment();
+        }
+    }
+
+    public int getInFlightCount() {
+        return inFlightReads.size();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getSharedCount() {
+        return sharedCount.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    private UserPoint load(long userId, LongFunction<UserPoint> loader, InFlightRead created) {
+        loadCount.increment();
+        try {
+            UserPoint userPoint = loader.apply(userId);
+            created.result.complete(userPoint);
+            return userPoint;
+        } catch (RuntimeException e) {
+            created.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            // 그 사이 무효화되어 새 조회가 들어왔으면 새 조회는 남겨둠
+            inFlightReads.computeIfPresent(userId, (k, current) -> current == created ? null : current);
+        }
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static class InFlightRead {
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,199 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 사용자별 포인트 버전 레지스트리 (낙관적 충전/사용)
+ * - 버전은 쓰기마다 2씩 증가하는 시퀀스로, 홀수이면 쓰기가 진행 중임을 뜻함
+ * - 낙관적 쓰기 : 짝수 버전을 읽고 조회/검증한 뒤, 버전을 CAS 로 홀수로 바꾸는 데 성공해야 반영 (실패하면 충돌)
+ * - 사용자 락으로 처리하는 쓰기도 락을 얻은 뒤 같은 버전을 홀수로 바꾸고 반영하므로, 두 방식이 섞여도 쓰기가 겹치지 않음
+ * - getVersion 으로 참조하는 동안(읽기부터 반영까지)에는 같은 사용자에게 항상 같은 버전을 반환하고,
+ *   release 로 마지막 참조가 해제되면 제거하여 사용자 수만큼 쌓이지 않음 (다시 만들면 0 부터 시작하지만, 이전 버전을 읽은 쓰기가 남아있지 않음)
+ * - 사용자별 충돌 비율이 높으면 일정 요청 수 동안 사용자 락으로 처리하도록 권하고, 이후 다시 낙관적으로 시도
+ *   (충돌 집계도 버전과 함께 제거되지만, 충돌은 동시에 참조하는 쓰기가 있을 때만 생기므로 경합 중에는 유지됨)
+ */
+@Component
+public class UserVersionManager {
+    private static final long MAX_CLAIM_PARK_NANOS = 1_000_000L;
+
+    private final LongConcurrentMap<UserVersion> versions = new LongConcurrentMap<>();
+    private final LongAdder commitCount = new LongAdder();
+    private final LongAdder conflictCount = new LongAdder();
+    private final LongAdder fallbackCount = new LongAdder();
+    private final boolean enabled;
+    private final int maxConflicts;
+    private final int window;
+    private final double conflictRateThreshold;
+    private final int pessimisticOperations;
+    private final LongAdder evictionCount = new LongAdder();
+    // 호출마다 람다가 만들어지지 않도록 필드로 보관
+    private final LongConcurrentMap.Remapping<UserVersion> acquireReference = (k, version) -> {
+        if (version == null) {
+            version = new UserVersion();
+        }
+        version.references++;
+        return version;
+    };
+    private final LongConcurrentMap.Remapping<UserVersion> releaseReference = (k, version) -> {
+        if (--version.references > 0) {
+            return version;
+        }
+        evictionCount.increment();
+        return null;
+    };
+
+    public UserVersionManager(OptimisticProperties properties) {
+        this.enabled = properties.enabled();
+        this.maxConflicts = properties.maxConflicts();
+        this.window = properties.window();
+        this.conflictRateThreshold = properties.conflictRateThreshold();
+        this.pessimisticOperations = properties.pessimisticOperations();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxConflicts() {
+        return maxConflicts;
+    }
+
+    /**
+     * 사용자의 버전을 참조하고 반환합니다. 없으면 만듭니다.
+     * 사용이 끝나면(publish/abort 이후) 반드시 {@link #release(long)} 를 호출해야 합니다.
+     */
+    public UserVersion getVersion(long userId) {
+        // compute는 키 단위로 원자적이므로, 제거와 참조 증가가 겹치지 않음
+        return versions.compute(userId, acquireReference);
+    }
+
+    /**
+     * getVersion 으로 얻은 참조를 해제합니다. 더 이상 참조하는 쓰기가 없으면 버전을 제거합니다.
+     */
+    public void release(long userId) {
+        versions.computeIfPresent(userId, releaseReference);
+    }
+
+    public int getLiveVersionCount() {
+        return versions.size();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getCommitCount() {
+        return commitCount.sum();
+    }
+
+    public long getConflictCount() {
+        return conflictCount.sum();
+    }
+
+    public long getFallbackCount() {
+        return fallbackCount.sum();
+    }
+
+    void recordFallback() {
+        fallbackCount.increment();
+    }
+
+    public class UserVersion {
+        private final AtomicLong sequence = new AtomicLong();
+        // 충돌 비율 집계는 판단용 근삿값이므로 경합 중 일부 갱신이 유실되어도 됨
+        private int windowAttempts;
+        private int windowConflicts;
+        private int pessimisticRemaining;
+        // compute 블록 안에서만 변경
+        private int references;
+
+        /**
+         * 낙관적 쓰기를 시작할 버전을 반환합니다. 쓰기가 진행 중이면 -1 을 반환합니다.
+         */
+        public long read() {
+            long sequence = this.sequence.get();
+            return (sequence & 1) == 0 ? sequence : -1;
+        }
+
+        /**
+         * read 로 읽은 버전이 그대로인지 확인합니다.
+         */
+        public boolean isCurrent(long sequence) {
+            return sequence >= 0 && this.sequence.get() == sequence;
+        }
+
+        /**
+         * read 로 읽은 버전이 그대로이면 쓰기를 시작하고 true 를 반환합니다. (그 사이 다른 쓰기가 있었으면 false)
+         * true 를 반환하면 반드시 {@link #publish()} 또는 {@link #abort()} 를 호출해야 합니다.
+         * 쓰기가 반영되면 버전은 {@code (sequence >>> 1) + 1} 이 됩니다.
+         */
+        public boolean tryClaim(long sequence) {
+            return sequence >= 0 && this.sequence.compareAndSet(sequence, sequence + 1);
+        }
+
+        /**
+         * 진행 중인 낙관적 쓰기가 끝나기를 기다렸다가 쓰기를 시작하고, 쓰기가 반영되면 갖게 될 버전을 반환합니다.
+         * (사용자 락을 보유한 상태에서 호출하며, 이후 반드시 {@link #publish()} 또는 {@link #abort()} 를 호출해야 합니다)
+         */
+        public long claim() {
+            long parkNanos = 1_000L;
+            while (true) {
+                long sequence = this.sequence.get();
+                if ((sequence & 1) == 0 && this.sequence.compareAndSet(sequence, sequence + 1)) {
+                    return (sequence >>> 1) + 1;
+                }
+                LockSupport.parkNanos(parkNanos);
+                parkNanos = Math.min(parkNanos * 2, MAX_CLAIM_PARK_NANOS);
+            }
+        }
+
+        /**
+         * 쓰기를 마치고 버전을 올립니다. 쓰기 도중 실패해도 일부가 반영되었을 수 있으므로 버전을 올려야 합니다.
+         */
+        public void publish() {
+            sequence.incrementAndGet();
+        }
+
+        /**
+         * 아무것도 반영하지 않은 쓰기(검증 실패 등)를 취소하고 버전을 되돌립니다.
+         */
+        public void abort() {
+            sequence.decrementAndGet();
+        }
+
+        /**
+         * 이 사용자를 낙관적으로 처리할지 판단합니다. 충돌 비율이 높아 사용자 락으로 전환한 동안에는 false 를 반환합니다.
+         */
+        public boolean preferOptimistic() {
+            if (pessimisticRemaining > 0) {
+                pessimisticRemaining--;
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * 낙관적 시도 결과를 집계하고, window 만큼 모이면 충돌 비율로 사용자 락 전환 여부를 정합니다.
+         */
+        public void recordAttempt(boolean conflicted) {
+            if (conflicted) {
+                conflictCount.increment();
+                windowConflicts++;
+            } else {
+                commitCount.increment();
+            }
+            if (++windowAttempts < window) {
+                return;
+            }
+            if (windowConflicts > windowAttempts * conflictRateThreshold) {
+                pessimisticRemaining = pessimisticOperations;
+            }
+            windowAttempts = 0;
+            windowConflicts = 0;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.hhplus.tdd;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 플랫폼 스레드 풀 모드와 가상 스레드 모드의 동시 처리량 비교
+ * - 두 모드 모두 Tomcat 스레드 수를 같게 제한하고, 테이블 지연(최대 200ms)이 있는 포인트 조회 요청을 동시에 보냄
+ * - 앱을 모드별로 띄우고 시점에 따라 결과가 달라지므로 performanceTest 로만 실행
+ */
+@Tag("performance")
+class VirtualThreadLoadTest {
+    private static final int MAX_REQUEST_THREADS = 20;
+    private static final int CONCURRENT_REQUESTS = 200;
+
+    @Test
+    void 가상_스레드_모드는_요청_스레드_수에_묶이지_않고_더_많은_요청을_동시에_처리한다() throws Exception {
+        // when
+        LoadResult platform = runLoad(false);
+        LoadResult virtual = runLoad(true);
+
+        // then
+        assertTrue(platform.maxInFlight() <= MAX_REQUEST_THREADS, "platform " + platform);
+        assertTrue(virtual.maxInFlight() > MAX_REQUEST_THREADS * 2, "virtual " + virtual);
+    }
+
+    private LoadResult runLoad(boolean virtualThreads) throws Exception {
+        InFlightFilter inFlightFilter = new InFlightFilter();
+        try (ConfigurableApplicationContext context = start(virtualThreads, inFlightFilter)) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            // 연결 수립과 JIT 영향을 줄이기 위해 한 번 워밍업 후 측정
+            sendConcurrently(client, port);
+            inFlightFilter.maxInFlight.set(0);
+            long[] sorted = sendConcurrently(client, port);
+            long p99 = sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+            return new LoadResult(inFlightFilter.maxInFlight.get(), TimeUnit.NANOSECONDS.toMillis(p99));
+        }
+    }
+
+    private long[] sendConcurrently(HttpClient client, int port) {
+        List<CompletableFuture<Long>> latencies = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + i)).GET().build();
+            long start = System.nanoTime();
+            latencies.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> {
+                        assertEquals(200, response.statusCode());
+                        return System.nanoTime() - start;
+                    }));
+        }
+        return latencies.stream().mapToLong(CompletableFuture::join).sorted().toArray();
+    }
+
+    private ConfigurableApplicationContext start(boolean virtualThreads, InFlightFilter inFlightFilter) {
+        return new SpringApplicationBuilder(TddApplication.class)
+                .initializers(context -> context.getBeanFactory().registerSingleton("inFlightFilter", inFlightFilter))
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.threads.max=" + MAX_REQUEST_THREADS,
+                        "--spring.threads.virtual.enabled=" + virtualThreads);
+    }
+
+    private record LoadResult(int maxInFlight, long p99Millis) {
+    }
+
+    /**
+     * 서버에서 동시에 처리 중인 요청 수를 기록
+     */
+    private static class InFlightFilter implements Filter {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.PointService;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 가상 스레드 모드에서 포인트 처리가 캐리어 스레드에 고정되지 않는지 확인
+ */
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadPinningTest {
+    @Autowired
+    private PointService pointService;
+
+    @Test
+    void 가상_스레드에서_포인트를_충전해도_캐리어_스레드에_고정되지_않는다() throws Exception {
+        // given
+        AtomicInteger pinnedEvents = new AtomicInteger();
+        try (RecordingStream recording = new RecordingStream();
+             ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+            recording.startAsync();
+
+            // when
+            // 같은 사용자 락을 두고 경합하도록 두 사용자에게 나누어 충전
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                long userId = 1L + i % 2;
+                futures.add(executorService.submit(() -> pointService.charge(userId, 1000L)));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            recording.stop();
+
+            // then
+            assertEquals(0, pinnedEvents.get());
+            assertEquals(5000L, pointService.selectById(1L).point());
+            assertEquals(5000L, pointService.selectById(2L).point());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarPointHistoryStoreTest {
+    private final ColumnarPointHistoryStore store = new ColumnarPointHistoryStore();
+
+    @Test
+    void 저장한_이력은_사용자별로_기록된_순서대로_조회된다() {
+        // given
+        PointHistory first = store.insert(1L, 1000L, CHARGE, 10L);
+        store.insert(2L, 500L, CHARGE, 11L);
+        PointHistory second = store.insert(1L, 300L, USE, 12L);
+
+        // when
+        List<PointHistory> histories = store.selectAllByUserId(1L);
+
+        // then
+        assertEquals(List.of(first, second), histories);
+        assertEquals(new PointHistory(1L, 1L, 1000L, CHARGE, 10L), first);
+        assertEquals(new PointHistory(3L, 1L, 300L, USE, 12L), second);
+        assertTrue(store.selectAllByUserId(3L).isEmpty());
+    }
+
+    @Test
+    void 청크_크기를_넘어서도_이력이_보존되고_페이지_조회가_된다() {
+        // given
+        int count = 200_000;
+        for (int i = 0; i < count; i++) {
+            store.insert(i % 2, i, CHARGE, i);
+        }
+
+        // when
+        List<PointHistory> histories = store.selectAllByUserId(1L);
+        PointHistoryPage page = store.selectPageByUserId(1L, histories.get(99_990).id(), 5, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // then
+        assertEquals(count, store.size());
+        assertEquals(count / 2, histories.size());
+        assertEquals(new PointHistory(count, 1L, count - 1, CHARGE, count - 1), histories.get(histories.size() - 1));
+        assertEquals(histories.subList(99_991, 99_996), page.histories());
+    }
+
+    @Test
+    void 반환된_목록은_이후에_추가된_이력의_영향을_받지_않는다() {
+        // given
+        store.insert(1L, 100L, CHARGE, 1L);
+        List<PointHistory> before = store.selectAllByUserId(1L);
+
+        // when
+        store.insert(1L, 200L, CHARGE, 2L);
+
+        // then
+        assertEquals(1, before.size());
+        assertEquals(2, store.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    void 여러_사용자의_이력을_동시에_저장해도_id가_중복되지_않는다() throws Exception {
+        // given
+        int userCount = 8;
+        int insertsPerUser = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(userCount);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (long userId = 1; userId <= userCount; userId++) {
+            long id = userId;
+            futures.add(executorService.submit(() -> {
+                for (int i = 0; i < insertsPerUser; i++) {
+                    store.insert(id, i, CHARGE, i);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // then
+        assertEquals(userCount * insertsPerUser, store.size());
+        long idSum = 0;
+        for (long userId = 1; userId <= userCount; userId++) {
+            List<PointHistory> histories = store.selectAllByUserId(userId);
+            assertEquals(insertsPerUser, histories.size());
+            for (int i = 0; i < insertsPerUser; i++) {
+                assertEquals(i, histories.get(i).amount());
+                idSum += histories.get(i).id();
+            }
+        }
+        long total = (long) userCount * insertsPerUser;
+        assertEquals(total * (total + 1) / 2, idSum);
+    }
+
+    @Test
+    void 이력_한_건당_메모리_사용량은_레코드_기반_테이블보다_작다() {
+        // given
+        int count = 1 << 18;
+        int userCount = 1000;
+        // PointHistoryTable 과 같은 구조 (ArrayList 에 PointHistory 레코드를 보관)
+        List<PointHistory> recordTable = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long userId = i % userCount;
+            recordTable.add(new PointHistory(i + 1L, userId, 1000L, i % 2 == 0 ? CHARGE : USE, System.currentTimeMillis()));
+            store.insert(userId, 1000L, i % 2 == 0 ? CHARGE : USE, System.currentTimeMillis());
+        }
+
+        // when
+        double recordBytesPerEntry = (double) GraphLayout.parseInstance(recordTable).totalSize() / count;
+        double columnarBytesPerEntry = (double) GraphLayout.parseInstance(store).totalSize() / count;
+
+        // then
+        assertTrue(columnarBytesPerEntry < recordBytesPerEntry * 0.75,
+                "bytes per history entry: record table " + recordBytesPerEntry + ", columnar store " + columnarBytesPerEntry);
+    }
+}
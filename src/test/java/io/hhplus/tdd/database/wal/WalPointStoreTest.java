@@ -0,0 +1,313 @@
+package io.hhplus.tdd.database.wal;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WalPointStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void 재시작하면_로그를_재생하여_포인트와_이력을_복구한다() throws IOException {
+        // given
+        WalPointStore store = openStore();
+        store.insertOrUpdate(1L, 1000L);
+        PointHistory charged = store.insert(1L, 1000L, CHARGE, 1L);
+        store.insertOrUpdate(1L, 700L);
+        PointHistory used = store.insert(1L, 300L, USE, 2L);
+        store.insertOrUpdate(2L, 500L);
+        store.insert(2L, 500L, CHARGE, 3L);
+        store.close();
+
+        // when
+        WalPointStore restarted = openStore();
+
+        // then
+        assertEquals(700L, restarted.selectById(1L).point());
+        assertEquals(500L, restarted.selectById(2L).point());
+        assertEquals(0L, restarted.selectById(3L).point());
+        assertEquals(List.of(charged, used), restarted.selectAllByUserId(1L));
+        assertEquals(1, restarted.selectAllByUserId(2L).size());
+        restarted.close();
+    }
+
+    @Test
+    void 충전_사용_한_건은_레코드_하나로_기록되고_재시작하면_포인트와_이력이_함께_복구된다() throws IOException {
+        // given
+        WalPointStore store = openStore();
+        store.insertOrUpdateWithHistory(1L, 1000L, 1000L, CHARGE, 1L);
+        store.insertOrUpdateWithHistory(1L, 700L, 300L, USE, 2L);
+        store.close();
+
+        // when
+        WalPointStore restarted = openStore();
+
+        // then
+        assertEquals(700L, restarted.selectById(1L).point());
+        assertEquals(List.of(
+                new PointHistory(1L, 1L, 1000L, CHARGE, 1L),
+                new PointHistory(2L, 1L, 300L, USE, 2L)
+        ), restarted.selectAllByUserId(1L));
+        restarted.close();
+    }
+
+    @Test
+    void 묶인_명령은_명령마다_레코드로_이어서_기록되고_재시작하면_마지막_포인트와_이력이_복구된다() throws IOException {
+        // given
+        WalPointStore store = openStore();
+        List<PointCommand> commands = List.of(
+                new PointCommand(1L, CHARGE, 1000L),
+                new PointCommand(1L, USE, 300L)
+        );
+
+        // when
+        UserPoint userPoint = store.insertOrUpdateWithHistories(1L, commands, List.of(1000L, 700L), 1L);
+        store.close();
+        WalPointStore restarted = openStore();
+
+        // then
+        assertEquals(700L, userPoint.point());
+        assertEquals(700L, restarted.selectById(1L).point());
+        assertEquals(List.of(
+                new PointHistory(1L, 1L, 1000L, CHARGE, 1L),
+                new PointHistory(2L, 1L, 300L, USE, 1L)
+        ), restarted.selectAllByUserId(1L));
+        restarted.close();
+    }
+
+    @Test
+    void 재시작_후_기록한_이력의_id는_이전_이력의_id보다_크다() throws IOException {
+        // given
+        WalPointStore store = openStore();
+        PointHistory before = store.insert(1L, 100L, CHARGE, 1L);
+        store.close();
+
+        // when
+        WalPointStore restarted = openStore();
+        PointHistory after = restarted.insert(1L, 100L, CHARGE, 2L);
+        restarted.close();
+
+        // then
+        assertTrue(after.id() > before.id());
+    }
+
+    @Test
+    void 비활성화되어_있으면_로그를_열지_않는다() throws IOException {
+        // given
+        WalPointStore store = new WalPointStore(new WalProperties(false, directory.resolve("disabled"), DataSize.ofKilobytes(4), FsyncPolicy.NEVER, Duration.ZERO, Duration.ZERO));
+
+        // when
+        store.open();
+
+        // then
+        assertFalse(store.isEnabled());
+        assertFalse(directory.resolve("disabled").toFile().exists());
+    }
+
+    @Test
+    void 스냅숏_이후에_재시작하면_스냅숏과_이후의_로그만으로_복구한다() throws IOException {
+        // given
+        WalPointStore store = openStore();
+        List<PointHistory> expected = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            store.insertOrUpdate(1L, i * 10L);
+            expected.add(store.insert(1L, 10L, CHARGE, i));
+            store.insertOrUpdate(2L, i);
+        }
+        store.snapshot();
+        long snapshotSequence = store.getSnapshotSequence();
+        for (int i = 101; i <= 110; i++) {
+            store.insertOrUpdate(1L, i * 10L);
+            expected.add(store.insert(1L, 10L, CHARGE, i));
+        }
+        store.close();
+
+        // when
+        WalPointStore restarted = openStore();
+
+        // then
+        assertEquals(300, snapshotSequence);
+        assertEquals(1100L, restarted.selectById(1L).point());
+        assertEquals(100L, restarted.selectById(2L).point());
+        assertEquals(expected, restarted.selectAllByUserId(1L));
+        assertTrue(restarted.selectAllByUserId(2L).isEmpty());
+        // 스냅숏에 모두 담긴 세그먼트(4KB = 124 레코드)는 지워짐
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith("wal-"))
+                    .allMatch(name -> Long.parseLong(name.substring(4, name.length() - 4)) > 124));
+        }
+
+        // 스냅숏 이력과 이후 이력에 걸친 페이지 조회
+        PointHistoryPage page = restarted.selectPageByUserId(1L, expected.get(97).id(), 5, Long.MIN_VALUE, Long.MAX_VALUE);
+        assertEquals(expected.subList(98, 103), page.histories());
+        assertEquals(expected.get(102).id(), page.nextCursor());
+        restarted.close();
+    }
+
+    @Test
+    void 스냅숏을_남기면_스냅숏에_담긴_이력은_메모리에서_지우고_새_구간만_세그먼트로_쓴다() throws IOException {
+        // given
+        WalPointStore store = openStore();
+        List<PointHistory> expected = new ArrayList<>();
+
+        // when
+        for (int round = 0; round < 3; round++) {
+            for (int i = 1; i <= 50; i++) {
+                expected.add(store.insert(1L, 10L, CHARGE, i));
+                store.insert(2L + round, 1L, USE, i);
+            }
+            assertEquals(100, store.getRecentHistoryCount());
+            store.snapshot();
+            assertEquals(0, store.getRecentHistoryCount());
+            assertEquals(expected, store.selectAllByUserId(1L));
+        }
+        expected.add(store.insert(1L, 10L, CHARGE, 999L));
+        store.close();
+        WalPointStore restarted = openStore();
+
+        // then
+        // 스냅숏마다 그 사이의 이력만 담은 세그먼트 하나씩
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(3, files.filter(path -> path.getFileName().toString().startsWith("history-")).count());
+        }
+        assertEquals(expected, restarted.selectAllByUserId(1L));
+        for (long userId = 2; userId <= 4; userId++) {
+            assertEquals(50, restarted.selectAllByUserId(userId).size());
+        }
+        assertEquals(1, restarted.getRecentHistoryCount());
+        restarted.close();
+    }
+
+    @Test
+    void 시작할_때_중단된_쓰기가_남긴_임시_파일을_지운다() throws IOException {
+        // given
+        WalPointStore store = openStore();
+        store.insertOrUpdateWithHistory(1L, 1000L, 1000L, CHARGE, 1L);
+        store.close();
+        Path leftover = Files.writeString(directory.resolve("snapshot-00000000000000000001.bin.tmp"), "partial");
+
+        // when
+        WalPointStore restarted = openStore();
+
+        // then
+        assertFalse(Files.exists(leftover));
+        assertEquals(1000L, restarted.selectById(1L).point());
+        restarted.close();
+    }
+
+    @Test
+    void 기록하는_도중에_스냅숏을_남겨도_재시작하면_마지막_상태로_복구된다() throws Exception {
+        // given
+        WalPointStore store = openStore();
+        int userCount = 4;
+        int writesPerUser = 300;
+        ExecutorService executorService = Executors.newFixedThreadPool(userCount);
+        List<Future<?>> futures = new ArrayList<>();
+        for (long userId = 1; userId <= userCount; userId++) {
+            long id = userId;
+            futures.add(executorService.submit(() -> {
+                for (int i = 1; i <= writesPerUser; i++) {
+                    store.insertOrUpdate(id, i);
+                    store.insert(id, 1L, CHARGE, i);
+                }
+                return null;
+            }));
+        }
+
+        // when
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            store.snapshot();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        store.close();
+        WalPointStore restarted = openStore();
+
+        // then
+        for (long userId = 1; userId <= userCount; userId++) {
+            assertEquals(writesPerUser, restarted.selectById(userId).point());
+            List<PointHistory> histories = restarted.selectAllByUserId(userId);
+            assertEquals(writesPerUser, histories.size());
+            for (int i = 1; i < histories.size(); i++) {
+                assertTrue(histories.get(i - 1).id() < histories.get(i).id());
+            }
+        }
+        restarted.close();
+    }
+
+    // 백만 사용자 데이터를 만들고 시간을 재는 테스트이므로 performanceTest 로만 실행
+    @Tag("performance")
+    @Test
+    void 백만_사용자_데이터는_스냅숏에서_시작하면_전체_로그를_재생하는_것보다_빠르다() throws IOException {
+        // given
+        int userCount = 1_000_000;
+        Path fullReplayDirectory = directory.resolve("full-replay");
+        Path snapshotDirectory = directory.resolve("snapshot");
+        for (Path target : List.of(fullReplayDirectory, snapshotDirectory)) {
+            try (WriteAheadLog wal = new WriteAheadLog(target, 64 << 20, FsyncPolicy.NEVER, Duration.ZERO)) {
+                wal.replay((record, sequence) -> {
+                });
+                for (long userId = 1; userId <= userCount; userId++) {
+                    wal.append(WalRecord.balance(userId, 1000L, userId));
+                    wal.append(WalRecord.history(userId, 1000L, CHARGE, userId));
+                }
+            }
+        }
+        WalPointStore snapshotStore = openStore(snapshotDirectory, 64 << 20);
+        snapshotStore.snapshot();
+        snapshotStore.close();
+        snapshotStore = null;
+
+        // when
+        long fullReplayStart = System.nanoTime();
+        WalPointStore fullReplayStore = openStore(fullReplayDirectory, 64 << 20);
+        long fullReplayMillis = (System.nanoTime() - fullReplayStart) / 1_000_000;
+        assertEquals(1000L, fullReplayStore.selectById(userCount).point());
+        fullReplayStore.close();
+        fullReplayStore = null;
+
+        long snapshotStart = System.nanoTime();
+        WalPointStore restarted = openStore(snapshotDirectory, 64 << 20);
+        long snapshotMillis = (System.nanoTime() - snapshotStart) / 1_000_000;
+
+        // then
+        assertTrue(snapshotMillis < fullReplayMillis, "full replay " + fullReplayMillis + "ms, snapshot " + snapshotMillis + "ms");
+        assertEquals(1000L, restarted.selectById(userCount).point());
+        assertEquals(1, restarted.selectAllByUserId(userCount).size());
+        restarted.close();
+    }
+
+    private WalPointStore openStore() throws IOException {
+        return openStore(directory, 4096);
+    }
+
+    private WalPointStore openStore(Path target, int segmentSize) throws IOException {
+        WalPointStore store = new WalPointStore(new WalProperties(true, target, DataSize.ofBytes(segmentSize), FsyncPolicy.NEVER, Duration.ZERO, Duration.ZERO));
+        store.open();
+        return store;
+    }
+}
@@ -0,0 +1,104 @@
+package io.hhplus.tdd.database.wal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WalSnapshotTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void 이력이_세그먼트_크기_제한을_넘으면_사용자_단위로_나누어_쓴다() throws IOException {
+        // given
+        PointHistoryIndex histories = new PointHistoryIndex();
+        List<PointHistory> expected = new ArrayList<>();
+        long sequence = 0;
+        for (long userId = 1; userId <= 4; userId++) {
+            for (int i = 0; i < 10; i++) {
+                PointHistory pointHistory = new PointHistory(++sequence, userId, 10L, CHARGE, sequence);
+                histories.append(pointHistory);
+                expected.add(pointHistory);
+            }
+        }
+
+        // when
+        // 사용자 하나(20 + 25 * 10 = 270 바이트)씩만 들어가는 크기
+        WalSnapshot.write(directory, sequence, WalSnapshot.EMPTY, Map.of(), histories, 300, WalSnapshot.MAX_SEGMENT_COUNT);
+        WalSnapshot loaded = WalSnapshot.loadLatest(directory, userPoint -> {
+        });
+
+        // then
+        assertEquals(4, loaded.segmentCount());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(4, files.filter(path -> path.getFileName().toString().startsWith("history-")).count());
+        }
+        for (long userId = 1; userId <= 4; userId++) {
+            int from = (int) (userId - 1) * 10;
+            assertEquals(expected.subList(from, from + 10), loaded.histories(userId));
+        }
+    }
+
+    @Test
+    void 한_사용자의_이력이_세그먼트_크기_제한을_넘으면_쓰기_전에_실패한다() throws IOException {
+        // given
+        PointHistoryIndex histories = new PointHistoryIndex();
+        for (long id = 1; id <= 20; id++) {
+            histories.append(new PointHistory(id, 1L, 10L, CHARGE, id));
+        }
+
+        // when & then
+        assertThrows(IllegalStateException.class,
+                () -> WalSnapshot.write(directory, 20, WalSnapshot.EMPTY, Map.of(), histories, 300, WalSnapshot.MAX_SEGMENT_COUNT));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void 세그먼트가_최대_개수를_넘게_되면_이전_세그먼트와_새_구간을_합친_세그먼트로_바꾼다() throws IOException {
+        // given
+        PointHistoryIndex histories = new PointHistoryIndex();
+        List<PointHistory> expected = new ArrayList<>();
+        WalSnapshot snapshot = WalSnapshot.EMPTY;
+        List<Integer> segmentCounts = new ArrayList<>();
+        long sequence = 0;
+
+        // when
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 5; i++) {
+                PointHistory pointHistory = new PointHistory(++sequence, 1L, 10L, CHARGE, sequence);
+                histories.append(pointHistory);
+                expected.add(pointHistory);
+                histories.append(new PointHistory(++sequence, 2L + round, 1L, CHARGE, sequence));
+            }
+            snapshot = WalSnapshot.write(directory, sequence, snapshot, Map.of(), histories, WalSnapshot.MAX_SEGMENT_SIZE, 2);
+            WalSnapshot.deleteUnreferenced(directory, snapshot);
+            segmentCounts.add(snapshot.segmentCount());
+        }
+        WalSnapshot loaded = WalSnapshot.loadLatest(directory, userPoint -> {
+        });
+
+        // then
+        assertEquals(List.of(1, 2, 1), segmentCounts);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.filter(path -> path.getFileName().toString().startsWith("history-")).count());
+        }
+        assertEquals(expected, loaded.histories(1L));
+        for (long userId = 2; userId <= 4; userId++) {
+            assertEquals(5, loaded.histories(userId).size());
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package io.hhplus.tdd.database.wal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteAheadLogTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void 기록한_레코드는_다시_열면_세그먼트를_넘어_순번_순서대로_재생된다() throws IOException {
+        // given
+        int recordCount = 35;
+        try (WriteAheadLog wal = new WriteAheadLog(directory, WriteAheadLog.FRAME_SIZE * 10, FsyncPolicy.NEVER, Duration.ZERO)) {
+            wal.replay((record, sequence) -> fail("빈 로그에는 재생할 레코드가 없어야 합니다."));
+            for (int i = 1; i <= recordCount; i++) {
+                wal.append(i % 2 == 0
+                        ? WalRecord.balance(i, i * 100L, i)
+                        : WalRecord.history(i, i * 10L, i % 3 == 0 ? USE : CHARGE, i));
+            }
+        }
+
+        // when
+        List<WalRecord> replayed = new ArrayList<>();
+        List<Long> sequences = new ArrayList<>();
+        try (WriteAheadLog wal = new WriteAheadLog(directory, WriteAheadLog.FRAME_SIZE * 10, FsyncPolicy.NEVER, Duration.ZERO)) {
+            wal.replay((record, sequence) -> {
+                replayed.add(record);
+                sequences.add(sequence);
+            });
+
+            // then
+            assertEquals(4, segmentCount());
+            assertEquals(recordCount, replayed.size());
+            for (int i = 1; i <= recordCount; i++) {
+                WalRecord record = replayed.get(i - 1);
+                assertEquals(i, sequences.get(i - 1));
+                assertEquals(i, record.userId());
+                assertEquals(i % 2 == 0 ? WalRecord.Kind.BALANCE : (i % 3 == 0 ? WalRecord.Kind.USE : WalRecord.Kind.CHARGE), record.kind());
+            }
+            assertEquals(recordCount + 1, wal.append(WalRecord.balance(1L, 1L, 1L)));
+        }
+    }
+
+    @Test
+    void 마지막_레코드가_손상되면_그_앞까지만_재생하고_그_위치부터_이어서_기록한다() throws IOException {
+        // given
+        try (WriteAheadLog wal = new WriteAheadLog(directory, 4096, FsyncPolicy.ALWAYS, Duration.ZERO)) {
+            wal.replay((record, sequence) -> {
+            });
+            for (int i = 1; i <= 3; i++) {
+                wal.append(WalRecord.history(1L, i * 100L, CHARGE, i));
+            }
+        }
+        // 세 번째 레코드의 값 일부를 덮어써 기록 도중 중단된 상태를 만듦
+        try (FileChannel channel = FileChannel.open(singleSegment(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f, 0x7f}), WriteAheadLog.FRAME_SIZE * 2L + WriteAheadLog.HEADER_SIZE + 10);
+        }
+
+        // when
+        List<Long> amounts = new ArrayList<>();
+        try (WriteAheadLog wal = new WriteAheadLog(directory, 4096, FsyncPolicy.ALWAYS, Duration.ZERO)) {
+            wal.replay((record, sequence) -> amounts.add(record.value()));
+            wal.append(WalRecord.history(1L, 400L, CHARGE, 4L));
+        }
+        List<Long> amountsAfterRecovery = new ArrayList<>();
+        try (WriteAheadLog wal = new WriteAheadLog(directory, 4096, FsyncPolicy.ALWAYS, Duration.ZERO)) {
+            wal.replay((record, sequence) -> amountsAfterRecovery.add(record.value()));
+        }
+
+        // then
+        assertEquals(List.of(100L, 200L), amounts);
+        assertEquals(List.of(100L, 200L, 400L), amountsAfterRecovery);
+    }
+
+    @Test
+    void 지정한_순번까지_담긴_세그먼트를_지우면_이후의_레코드만_재생된다() throws IOException {
+        // given
+        int segmentSize = WriteAheadLog.FRAME_SIZE * 10;
+        try (WriteAheadLog wal = new WriteAheadLog(directory, segmentSize, FsyncPolicy.NEVER, Duration.ZERO)) {
+            wal.replay((record, sequence) -> {
+            });
+            for (int i = 1; i <= 35; i++) {
+                wal.append(WalRecord.balance(i, i, i));
+            }
+
+            // when
+            int deleted = wal.deleteSegmentsBefore(25);
+
+            // then
+            assertEquals(2, deleted);  // 1~10, 11~20 세그먼트만 지워짐 (21~30 은 25 이후 레코드를 포함)
+        }
+        List<Long> sequences = new ArrayList<>();
+        try (WriteAheadLog wal = new WriteAheadLog(directory, segmentSize, FsyncPolicy.NEVER, Duration.ZERO)) {
+            wal.replay(25, (record, sequence) -> sequences.add(sequence));
+            assertEquals(36, wal.append(WalRecord.balance(1L, 1L, 1L)));
+        }
+        assertEquals(List.of(26L, 27L, 28L, 29L, 30L, 31L, 32L, 33L, 34L, 35L), sequences);
+    }
+
+    @Test
+    void 필요한_순번의_세그먼트가_없으면_IllegalStateException이_발생한다() throws IOException {
+        // given
+        int segmentSize = WriteAheadLog.FRAME_SIZE * 10;
+        try (WriteAheadLog wal = new WriteAheadLog(directory, segmentSize, FsyncPolicy.NEVER, Duration.ZERO)) {
+            wal.replay((record, sequence) -> {
+            });
+            for (int i = 1; i <= 25; i++) {
+                wal.append(WalRecord.balance(i, i, i));
+            }
+            wal.deleteSegmentsBefore(20);
+        }
+
+        // when & then
+        try (WriteAheadLog wal = new WriteAheadLog(directory, segmentSize, FsyncPolicy.NEVER, Duration.ZERO)) {
+            assertThrows(IllegalStateException.class, () -> wal.replay(5, (record, sequence) -> {
+            }));
+        }
+    }
+
+    @Test
+    void BATCH_정책은_동시에_기록한_레코드를_모아_한번에_fsync한다() throws Exception {
+        // given
+        int threadCount = 8;
+        int appendsPerThread = 100;
+        try (WriteAheadLog wal = new WriteAheadLog(directory, 1 << 20, FsyncPolicy.BATCH, Duration.ofMillis(1))) {
+            wal.replay((record, sequence) -> {
+            });
+
+            // when
+            runConcurrently(wal, threadCount, appendsPerThread);
+
+            // then
+            long total = (long) threadCount * appendsPerThread;
+            assertEquals(total, wal.getDurableSequence());
+            assertTrue(wal.getForceCount() < total / 2, "fsync 횟수: " + wal.getForceCount());
+        }
+    }
+
+    @Test
+    void fsync_정책에_따라_기록마다_fsync하거나_하지_않는다() throws Exception {
+        // given
+        int threadCount = 8;
+        int appendsPerThread = 500;
+        long total = (long) threadCount * appendsPerThread;
+        for (FsyncPolicy policy : FsyncPolicy.values()) {
+            Path policyDirectory = directory.resolve(policy.name());
+            try (WriteAheadLog wal = new WriteAheadLog(policyDirectory, 1 << 20, policy, Duration.ZERO)) {
+                wal.replay((record, sequence) -> {
+                });
+
+                // when
+                runConcurrently(wal, threadCount, appendsPerThread);
+
+                // then
+                assertEquals(total, wal.getAppendedSequence());
+                switch (policy) {
+                    case ALWAYS -> assertEquals(total, wal.getForceCount());
+                    case BATCH -> assertTrue(wal.getForceCount() <= total, "fsync 횟수: " + wal.getForceCount());
+                    case NEVER -> assertEquals(0, wal.getForceCount());
+                }
+            }
+        }
+    }
+
+    @Test
+    void 여러_레코드를_한_번에_기록하면_연속된_순번을_받고_fsync는_한_번만_한다() throws IOException {
+        // given
+        List<WalRecord> records = List.of(
+                WalRecord.transaction(1L, 1000L, CHARGE, 1000L, 1L),
+                WalRecord.transaction(1L, 300L, USE, 700L, 1L),
+                WalRecord.transaction(1L, 200L, CHARGE, 900L, 1L)
+        );
+        try (WriteAheadLog wal = new WriteAheadLog(directory, 1 << 20, FsyncPolicy.ALWAYS, Duration.ZERO)) {
+            wal.replay((record, sequence) -> {
+            });
+            wal.append(WalRecord.balance(2L, 100L, 1L));
+            long forceCount = wal.getForceCount();
+
+            // when
+            long lastSequence = wal.appendAll(records);
+
+            // then
+            assertEquals(4, lastSequence);
+            assertEquals(4, wal.getDurableSequence());
+            assertEquals(forceCount + 1, wal.getForceCount());
+        }
+        List<WalRecord> replayed = new ArrayList<>();
+        try (WriteAheadLog wal = new WriteAheadLog(directory, 1 << 20, FsyncPolicy.NEVER, Duration.ZERO)) {
+            wal.replay((record, sequence) -> {
+                if (sequence > 1) {
+                    replayed.add(record);
+                }
+            });
+        }
+        assertEquals(records, replayed);
+    }
+
+    private static void runConcurrently(WriteAheadLog wal, int threadCount, int appendsPerThread) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            long userId = t;
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int i = 0; i < appendsPerThread; i++) {
+                    wal.append(WalRecord.history(userId, 100L, CHARGE, System.currentTimeMillis()));
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private Path singleSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTest {
+    private final IdempotencyCache cache = new IdempotencyCache(new IdempotencyProperties(100, Duration.ofMinutes(10)));
+
+    @Test
+    void 같은_멱등키로_다시_요청하면_명령을_수행하지_않고_처음_결과를_반환한다() {
+        // given
+        long userId = 1L;
+        AtomicInteger executed = new AtomicInteger();
+        UserPoint userPoint = new UserPoint(userId, 1000L, System.currentTimeMillis());
+
+        // when
+        UserPoint first = cache.execute(userId, "key-1", CHARGE, 1000L, () -> {
+            executed.incrementAndGet();
+            return userPoint;
+        });
+        UserPoint retried = cache.execute(userId, "key-1", CHARGE, 1000L, () -> {
+            executed.incrementAndGet();
+            return new UserPoint(userId, 2000L, System.currentTimeMillis());
+        });
+
+        // then
+        assertEquals(1, executed.get());
+        assertEquals(first, retried);
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void 같은_멱등키라도_사용자가_다르면_각각_수행한다() {
+        // given
+        AtomicInteger executed = new AtomicInteger();
+
+        // when
+        cache.execute(1L, "key-1", CHARGE, 1000L, () -> new UserPoint(1L, executed.incrementAndGet(), 0));
+        cache.execute(2L, "key-1", CHARGE, 1000L, () -> new UserPoint(2L, executed.incrementAndGet(), 0));
+
+        // then
+        assertEquals(2, executed.get());
+    }
+
+    @Test
+    void 처리중인_요청과_같은_멱등키의_요청은_다시_수행하지_않고_처리중인_결과를_기다린다() throws Exception {
+        // given
+        long userId = 1L;
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<UserPoint> original = CompletableFuture.supplyAsync(() ->
+                cache.execute(userId, "key-1", CHARGE, 1000L, () -> {
+                    executed.incrementAndGet();
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new UserPoint(userId, 1000L, System.currentTimeMillis());
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // when
+        CompletableFuture<UserPoint> duplicate = CompletableFuture.supplyAsync(() ->
+                cache.execute(userId, "key-1", CHARGE, 1000L, () -> {
+                    executed.incrementAndGet();
+                    return new UserPoint(userId, 2000L, System.currentTimeMillis());
+                }));
+        Thread.sleep(50);
+        assertFalse(duplicate.isDone());
+        release.countDown();
+
+        // then
+        assertEquals(original.get(5, TimeUnit.SECONDS), duplicate.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executed.get());
+    }
+
+    @Test
+    void 실패한_요청의_결과는_보관하지_않아_같은_멱등키로_재시도할_수_있다() {
+        // given
+        long userId = 1L;
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> cache.execute(userId, "key-1", USE, 1000L, () -> {
+            throw new IllegalArgumentException("포인트가 부족합니다.");
+        }));
+        UserPoint retried = cache.execute(userId, "key-1", USE, 1000L, () -> new UserPoint(userId, 0L, System.currentTimeMillis()));
+
+        // then
+        assertEquals(0L, retried.point());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void 같은_멱등키로_다른_요청을_보내면_IllegalArgumentException이_발생한다() {
+        // given
+        long userId = 1L;
+        cache.execute(userId, "key-1", CHARGE, 1000L, () -> new UserPoint(userId, 1000L, System.currentTimeMillis()));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> cache.execute(userId, "key-1", USE, 1000L, () -> new UserPoint(userId, 0L, System.currentTimeMillis())));
+    }
+
+    @Test
+    void 최대_개수를_초과하면_오래된_결과부터_제거한다() {
+        // given
+        IdempotencyCache smallCache = new IdempotencyCache(new IdempotencyProperties(10, Duration.ofMinutes(10)));
+        AtomicInteger executed = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            smallCache.execute(1L, "key-" + i, CHARGE, 100L, () -> new UserPoint(1L, executed.incrementAndGet(), 0));
+        }
+        smallCache.execute(1L, "key-0", CHARGE, 100L, () -> new UserPoint(1L, executed.incrementAndGet(), 0));
+
+        // then
+        assertTrue(smallCache.size() <= 10);
+        assertEquals(21, executed.get());  // 제거된 key-0 은 다시 수행됨
+        assertTrue(smallCache.getEvictionCount() >= 10);
+    }
+
+    @Test
+    void 처리중인_요청은_최대_개수를_넘겨도_제거하지_않아_같은_멱등키의_요청이_다시_수행되지_않는다() throws Exception {
+        // given
+        IdempotencyCache smallCache = new IdempotencyCache(new IdempotencyProperties(10, Duration.ofMinutes(10)));
+        long userId = 1L;
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<UserPoint> original = CompletableFuture.supplyAsync(() ->
+                smallCache.execute(userId, "in-flight", CHARGE, 1000L, () -> {
+                    executed.incrementAndGet();
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new UserPoint(userId, 1000L, System.currentTimeMillis());
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // when
+        // 처리 중인 요청이 있는 동안 다른 키로 최대 개수를 넘게 채움
+        for (int i = 0; i < 20; i++) {
+            smallCache.execute(userId, "key-" + i, CHARGE, 100L, () -> new UserPoint(userId, 100L, 0));
+        }
+        CompletableFuture<UserPoint> duplicate = CompletableFuture.supplyAsync(() ->
+                smallCache.execute(userId, "in-flight", CHARGE, 1000L, () -> {
+                    executed.incrementAndGet();
+                    return new UserPoint(userId, 2000L, System.currentTimeMillis());
+                }));
+        release.countDown();
+
+        // then
+        assertEquals(original.get(5, TimeUnit.SECONDS), duplicate.get(5, TimeUnit.SECONDS));
+        assertEquals(1, executed.get());
+        assertTrue(smallCache.size() <= 10);
+    }
+
+    @Test
+    void 보관_시간이_지난_결과는_새_요청으로_처리한다() throws InterruptedException {
+        // given
+        IdempotencyCache shortLivedCache = new IdempotencyCache(new IdempotencyProperties(100, Duration.ofMillis(20)));
+        AtomicInteger executed = new AtomicInteger();
+        shortLivedCache.execute(1L, "key-1", CHARGE, 100L, () -> new UserPoint(1L, executed.incrementAndGet(), 0));
+
+        // when
+        Thread.sleep(50);
+        shortLivedCache.execute(1L, "key-1", CHARGE, 100L, () -> new UserPoint(1L, executed.incrementAndGet(), 0));
+
+        // then
+        assertEquals(2, executed.get());
+    }
+}
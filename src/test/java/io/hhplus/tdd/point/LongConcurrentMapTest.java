@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongConcurrentMapTest {
+
+    @Test
+    void 저장한_값은_키로_조회하고_제거할_수_있다() {
+        // given
+        LongConcurrentMap<String> map = new LongConcurrentMap<>();
+
+        // when
+        map.put(0L, "zero");
+        map.put(-1L, "minus");
+        map.put(Long.MAX_VALUE, "max");
+        String previous = map.put(0L, "zero2");
+        String removed = map.remove(-1L);
+
+        // then
+        assertEquals("zero", previous);
+        assertEquals("minus", removed);
+        assertEquals("zero2", map.get(0L));
+        assertNull(map.get(-1L));
+        assertEquals("max", map.get(Long.MAX_VALUE));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void 무작위로_추가와_제거를_반복해도_HashMap과_같은_결과를_반환한다() {
+        // given
+        LongConcurrentMap<Long> map = new LongConcurrentMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 500_000; i++) {
+            long key = random.nextInt(20_000);
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+                case 1 -> assertEquals(expected.remove(key), map.remove(key));
+                default -> assertEquals(expected.get(key), map.get(key));
+            }
+        }
+
+        // then
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 20_000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    void compute는_null을_반환하면_키를_제거하고_computeIfPresent는_없는_키를_무시한다() {
+        // given
+        LongConcurrentMap<Integer> map = new LongConcurrentMap<>();
+
+        // when
+        Integer created = map.compute(1L, (key, current) -> current == null ? 1 : current + 1);
+        Integer incremented = map.compute(1L, (key, current) -> current == null ? 1 : current + 1);
+        Integer absent = map.computeIfPresent(2L, (key, current) -> current + 1);
+        map.compute(1L, (key, current) -> null);
+
+        // then
+        assertEquals(1, created);
+        assertEquals(2, incremented);
+        assertNull(absent);
+        assertNull(map.get(1L));
+        assertNull(map.get(2L));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void 여러_스레드가_같은_키들을_동시에_compute해도_갱신이_유실되지_않는다() throws Exception {
+        // given
+        LongConcurrentMap<Long> map = new LongConcurrentMap<>();
+        int threadCount = 8;
+        int incrementsPerThread = 20_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executorService.submit(() -> {
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    map.compute(i % 1000, (key, current) -> current == null ? 1L : current + 1);
+                    map.get(i % 1000);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // then
+        long total = 0;
+        for (long key = 0; key < 1000; key++) {
+            total += map.get(key);
+        }
+        assertEquals((long) threadCount * incrementsPerThread, total);
+    }
+
+    @Test
+    void 조회에는_할당이_없다() {
+        // given
+        LongConcurrentMap<String> map = new LongConcurrentMap<>();
+        for (long key = 0; key < 10_000; key++) {
+            map.put(key * 1_000_003, "value");
+        }
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        lookup(map);
+
+        // when
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        int found = lookup(map);
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+        // then
+        assertEquals(10_000, found);
+        assertTrue(allocated < 1024, "조회 중 할당된 바이트: " + allocated);
+    }
+
+    private static int lookup(LongConcurrentMap<String> map) {
+        int found = 0;
+        for (long key = 0; key < 20_000; key++) {
+            if (map.get(key * 1_000_003) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,141 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PointBulkChargerTest {
+    private final PointService pointService = mock(PointService.class);
+    private PointBulkCharger bulkCharger;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bulkCharger.shutdown();
+    }
+
+    @Test
+    void 같은_사용자의_충전은_요청_순서대로_처리하고_결과를_요청_순서대로_반환한다() {
+        // given
+        bulkCharger = new PointBulkCharger(pointService, new BulkChargeProperties(4, 100, false));
+        List<Long> chargedAmounts = Collections.synchronizedList(new ArrayList<>());
+        when(pointService.charge(eq(1L), anyLong())).thenAnswer(invocation -> {
+            long amount = invocation.getArgument(1);
+            chargedAmounts.add(amount);
+            return new UserPoint(1L, amount, System.currentTimeMillis());
+        });
+        when(pointService.charge(2L, 300L)).thenThrow(new PointValidationException(PointValidationException.Reason.MAX_POINT_EXCEEDED, "포인트가 최대치를 초과했습니다."));
+        List<PointChargeRequest> requests = List.of(
+                new PointChargeRequest(1L, 100L),
+                new PointChargeRequest(2L, 300L),
+                new PointChargeRequest(1L, 200L),
+                new PointChargeRequest(1L, 400L)
+        );
+
+        // when
+        List<PointChargeResult> results = bulkCharger.chargeAll(requests);
+
+        // then
+        assertEquals(List.of(100L, 200L, 400L), chargedAmounts);
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).success());
+        assertEquals(100L, results.get(0).userPoint().point());
+        assertFalse(results.get(1).success());
+        assertEquals("MAX_POINT_EXCEEDED", results.get(1).code());
+        assertEquals("포인트가 최대치를 초과했습니다.", results.get(1).message());
+        assertEquals(200L, results.get(2).userPoint().point());
+        assertEquals(400L, results.get(3).userPoint().point());
+    }
+
+    @Test
+    void 내부_오류로_실패한_충전은_예외_메시지_대신_고정된_오류_코드와_메시지를_반환한다() {
+        // given
+        bulkCharger = new PointBulkCharger(pointService, new BulkChargeProperties(4, 100, false));
+        when(pointService.charge(1L, 100L)).thenThrow(new IllegalStateException("로그 세그먼트를 만들지 못했습니다. path=/data/wal"));
+
+        // when
+        List<PointChargeResult> results = bulkCharger.chargeAll(List.of(new PointChargeRequest(1L, 100L)));
+
+        // then
+        assertFalse(results.get(0).success());
+        assertEquals("500", results.get(0).code());
+        assertEquals("에러가 발생했습니다.", results.get(0).message());
+    }
+
+    @Test
+    void 서로_다른_사용자의_충전은_동시에_처리된다() {
+        // given
+        int userCount = 4;
+        bulkCharger = new PointBulkCharger(pointService, new BulkChargeProperties(userCount, 100, false));
+        CountDownLatch allStarted = new CountDownLatch(userCount);
+        when(pointService.charge(anyLong(), anyLong())).thenAnswer(invocation -> {
+            allStarted.countDown();
+            // 순차 처리라면 다른 사용자가 시작하지 못해 대기 시간이 초과됨
+            if (!allStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("다른 사용자의 충전이 동시에 시작되지 않았습니다.");
+            }
+            return new UserPoint(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis());
+        });
+        List<PointChargeRequest> requests = new ArrayList<>();
+        for (long userId = 1; userId <= userCount; userId++) {
+            requests.add(new PointChargeRequest(userId, 100L));
+        }
+
+        // when
+        List<PointChargeResult> results = bulkCharger.chargeAll(requests);
+
+        // then
+        assertTrue(results.stream().allMatch(PointChargeResult::success));
+    }
+
+    @Test
+    void 동시에_처리하는_사용자_수는_concurrency를_넘지_않는다() {
+        // given
+        int concurrency = 2;
+        bulkCharger = new PointBulkCharger(pointService, new BulkChargeProperties(concurrency, 100, true));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(pointService.charge(anyLong(), anyLong())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return new UserPoint(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis());
+        });
+        List<PointChargeRequest> requests = new ArrayList<>();
+        for (long userId = 1; userId <= 8; userId++) {
+            requests.add(new PointChargeRequest(userId, 100L));
+        }
+
+        // when
+        bulkCharger.chargeAll(requests);
+
+        // then
+        assertTrue(maxRunning.get() <= concurrency);
+        verify(pointService, times(8)).charge(anyLong(), anyLong());
+    }
+
+    @Test
+    void 최대_건수를_초과하면_IllegalArgumentException이_발생한다() {
+        // given
+        bulkCharger = new PointBulkCharger(pointService, new BulkChargeProperties(4, 2, false));
+        List<PointChargeRequest> requests = List.of(
+                new PointChargeRequest(1L, 100L),
+                new PointChargeRequest(2L, 100L),
+                new PointChargeRequest(3L, 100L)
+        );
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> bulkCharger.chargeAll(requests));
+        verifyNoInteractions(pointService);
+    }
+}
@@ -0,0 +1,175 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointCommandBatcherTest {
+    private final UserLockManager lockManager = new UserLockManager();
+    private final PointCommandBatcher batcher = new PointCommandBatcher(lockManager, new GroupCommitProperties(true, 64));
+
+    @Test
+    void 락을_기다리는_동안_쌓인_명령은_한_번에_묶여_도착_순서대로_처리된다() throws Exception {
+        // given
+        long userId = 1L;
+        int commandCount = 10;
+        List<List<Long>> batches = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executorService = Executors.newFixedThreadPool(commandCount);
+        List<Future<UserPoint>> futures = new ArrayList<>();
+
+        // 다른 요청이 락을 보유한 상황
+        ReentrantLock lock = lockManager.getLock(userId);
+        lock.lock();
+
+        // when
+        for (int i = 1; i <= commandCount; i++) {
+            final long amount = i;
+            futures.add(executorService.submit(() -> batcher.execute(new PointCommand(userId, CHARGE, amount), batch -> {
+                batches.add(batch.stream().map(PointCommand::amount).toList());
+                long point = 0;
+                for (PointCommand command : batch) {
+                    point += command.amount();
+                    command.result().complete(new UserPoint(userId, point, 0));
+                }
+            })));
+            Thread.sleep(20); // 도착 순서 보장
+        }
+        lock.unlock();
+        lockManager.release(userId);
+
+        // then
+        for (int i = 0; i < commandCount; i++) {
+            long expected = (long) (i + 1) * (i + 2) / 2;  // 1 + 2 + ... + (i + 1)
+            assertEquals(expected, futures.get(i).get(5, TimeUnit.SECONDS).point());
+        }
+        assertEquals(List.of(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L)), batches);
+        assertEquals(1, batcher.getBatchCount());
+        assertEquals(commandCount, batcher.getCommandCount());
+        assertEquals(0, lockManager.getLiveLockCount());
+
+        executorService.shutdown();
+    }
+
+    @Test
+    void 묶인_명령_중_실패한_명령은_해당_호출자에게만_예외를_던진다() throws InterruptedException {
+        // given
+        long userId = 2L;
+        CountDownLatch done = new CountDownLatch(1);
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        Thread thread = new Thread(() -> {
+            try {
+                batcher.execute(new PointCommand(userId, USE, 1000L), batch -> batch.forEach(command ->
+                        command.result().completeExceptionally(new IllegalArgumentException("포인트가 부족합니다."))));
+            } catch (Throwable e) {
+                errors.add(e);
+            } finally {
+                done.countDown();
+            }
+        });
+        thread.start();
+
+        // then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, errors.size());
+        assertInstanceOf(IllegalArgumentException.class, errors.get(0));
+        assertEquals("포인트가 부족합니다.", errors.get(0).getMessage());
+    }
+
+    @Test
+    void 기한_안에_락을_얻지_못하면_명령을_대기열에서_빼고_LockTimeoutException을_던진다() throws Exception {
+        // given
+        long userId = 5L;
+        ReentrantLock lock = lockManager.getLock(userId);
+        lock.lock();
+        List<PointCommand> handled = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            // when
+            Future<UserPoint> rejected = executorService.submit(() -> batcher.execute(new PointCommand(userId, CHARGE, 1000L),
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50), handled::addAll));
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(LockTimeoutException.class, exception.getCause());
+        } finally {
+            lock.unlock();
+            lockManager.release(userId);
+            executorService.shutdown();
+        }
+
+        // then
+        // 거절된 명령은 이후의 묶음에 섞여 반영되지 않음
+        PointCommand next = new PointCommand(userId, CHARGE, 2000L);
+        batcher.execute(next, batch -> {
+            handled.addAll(batch);
+            batch.forEach(command -> command.result().complete(new UserPoint(userId, command.amount(), 0L)));
+        });
+        assertEquals(List.of(next), handled);
+        assertFalse(lock.isLocked());
+    }
+
+    @Test
+    void 처리기가_예외를_던지면_묶인_명령_모두_실패한다() {
+        // given
+        long userId = 3L;
+
+        // when & then
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> batcher.execute(new PointCommand(userId, CHARGE, 1000L), batch -> {
+                    throw new IllegalStateException("저장 실패");
+                }));
+        assertEquals("저장 실패", exception.getMessage());
+    }
+
+    @Test
+    void 처리기가_결과를_남기지_못하고_Error를_던져도_묶인_명령은_실패로_완료된다() throws Exception {
+        // given
+        long userId = 4L;
+        ReentrantLock lock = lockManager.getLock(userId);
+        lock.lock();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        Future<UserPoint> first;
+        Future<UserPoint> second;
+        try {
+            // 락을 잡아둔 동안 두 명령이 대기열에 쌓여 한 번에 묶이도록 함
+            first = executorService.submit(() -> batcher.execute(new PointCommand(userId, CHARGE, 1000L), batch -> {
+                throw new AssertionError("처리기 오류");
+            }));
+            second = executorService.submit(() -> batcher.execute(new PointCommand(userId, CHARGE, 2000L), batch -> {
+                throw new AssertionError("처리기 오류");
+            }));
+            while (lock.getQueueLength() < 2) {
+                Thread.onSpinWait();
+            }
+        } finally {
+            lock.unlock();
+            lockManager.release(userId);
+        }
+
+        // when
+        List<Throwable> errors = new ArrayList<>();
+        for (Future<UserPoint> future : List.of(first, second)) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            errors.add(exception.getCause());
+        }
+        executorService.shutdown();
+
+        // then
+        // 처리기를 실행한 호출자는 Error 를, 묶여서 기다린 호출자는 처리되지 않은 명령으로 실패
+        assertEquals(1, errors.stream().filter(error -> error instanceof AssertionError).count());
+        assertEquals(1, errors.stream().filter(error -> error instanceof IllegalStateException).count());
+    }
+}
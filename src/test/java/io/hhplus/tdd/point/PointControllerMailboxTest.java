@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "point.mailbox.enabled=true")
+@AutoConfigureMockMvc
+class PointControllerMailboxTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserLockManager lockManager;
+
+    @Test
+    void 메일박스를_켜면_충전_요청은_사용자_락을_기다리지_않고_반환되고_처리된_뒤_결과를_응답한다() throws Exception {
+        // given
+        long userId = 1L;
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread holder = Thread.ofPlatform().start(() -> {
+            ReentrantLock lock = lockManager.getLock(userId);
+            lock.lock();
+            try {
+                locked.countDown();
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+                lockManager.release(userId);
+            }
+        });
+        locked.await();
+
+        // when
+        MvcResult result;
+        try {
+            result = mockMvc.perform(patch("/point/{id}/charge", userId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("1000"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // 사용자 락이 풀리기 전에는 요청 스레드만 반환되고 결과는 아직 없음
+            MvcResult pending = result;
+            assertThrows(IllegalStateException.class, () -> pending.getAsyncResult(0));
+        } finally {
+            done.countDown();
+            holder.join();
+        }
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(1000L));
+    }
+
+    @Test
+    void 메일박스를_켜도_잔액이_부족하면_비동기_응답으로_오류를_반환한다() throws Exception {
+        // given
+        long userId = 2L;
+
+        // when
+        MvcResult result = mockMvc.perform(patch("/point/{id}/use", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("1000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().is5xxServerError())
+                .andExpect(res -> assertTrue(res.getResolvedException() instanceof IllegalArgumentException))
+                .andExpect(res -> assertEquals("포인트가 부족합니다.", res.getResolvedException().getMessage()));
+    }
+}
@@ -2,11 +2,21 @@ package io.hhplus.tdd.point;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -16,10 +26,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 
 @SpringBootTest
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 class PointControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private UserLockManager lockManager;
+
     @Test
     void 존재하지_않는_사용자의_포인트_조회시_0포인트를_반환한다() throws Exception {
         // when & then
@@ -62,11 +76,15 @@ class PointControllerTest {
         long amount = 1000L;
 
         // when & then
-        mockMvc.perform(patch("/point/{id}/charge", userId)
+        MvcResult result = mockMvc.perform(patch("/point/{id}/charge", userId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(String.valueOf(amount)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.point").value(amount));
+                .andExpect(jsonPath("$.point").value(amount))
+                .andExpect(jsonPath("$.version").doesNotExist());
     }
 
     @Test
@@ -82,9 +100,12 @@ class PointControllerTest {
                 .content(String.valueOf(chargeAmount)));
 
         // when & then
-        mockMvc.perform(patch("/point/{id}/use", userId)
+        MvcResult result = mockMvc.perform(patch("/point/{id}/use", userId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(String.valueOf(useAmount)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.point").value(chargeAmount - useAmount));
     }
@@ -104,4 +125,246 @@ class PointControllerTest {
                 .andExpect(result -> assertEquals("포인트가 부족합니다.",
                         result.getResolvedException().getMessage()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void 포인트_사용시_잔액이_부족하면_응답_코드에_거절_사유를_담는다() throws Exception {
+        // given
+        long userId = 23L;
+        long useAmount = 1000L;
+
+        // when & then
+        mockMvc.perform(patch("/point/{id}/use", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(useAmount)))
+                .andExpect(status().is5xxServerError())
+                .andExpect(jsonPath("$.code").value("INSUFFICIENT_POINT"))
+                .andExpect(jsonPath("$.message").value("포인트가 부족합니다."));
+    }
+
+    @Test
+    void 이력을_limit_단위로_조회하면_다음_페이지_커서를_헤더로_반환한다() throws Exception {
+        // given
+        long userId = 5L;
+        for (long amount = 1000L; amount <= 3000L; amount += 1000L) {
+            mockMvc.perform(patch("/point/{id}/charge", userId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(String.valueOf(amount)));
+        }
+
+        // when
+        MvcResult firstPage = mockMvc.perform(get("/point/{id}/histories", userId).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].amount").value(1000L))
+                .andExpect(jsonPath("$[1].amount").value(2000L))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+
+        // then
+        mockMvc.perform(get("/point/{id}/histories", userId)
+                        .param("cursor", firstPage.getResponse().getHeader("X-Next-Cursor"))
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].amount").value(3000L))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void 여러_사용자의_이력을_NDJSON으로_내보낸다() throws Exception {
+        // given
+        long userId1 = 6L;
+        long userId2 = 7L;
+        mockMvc.perform(patch("/point/{id}/charge", userId1)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("1000"));
+        mockMvc.perform(patch("/point/{id}/charge", userId2)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("2000"));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/point/histories/export").param("users", userId1 + "," + userId2))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"userId\":6") && lines[0].contains("\"amount\":1000"));
+        assertTrue(lines[1].contains("\"userId\":7") && lines[1].contains("\"amount\":2000"));
+    }
+
+    @Test
+    void gzip을_요청하면_압축해서_내보낸다() throws Exception {
+        // given
+        long userId = 8L;
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("1000"));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/point/histories/export")
+                        .param("users", String.valueOf(userId))
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            String line = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+            assertTrue(line.contains("\"userId\":8") && line.contains("\"amount\":1000"));
+        }
+    }
+
+    @Test
+    void 일괄_충전시_건별_결과를_요청_순서대로_반환한다() throws Exception {
+        // given
+        String requests = """
+                [{"userId": 12, "amount": 1000},
+                 {"userId": 13, "amount": 0},
+                 {"userId": 12, "amount": 500}]
+                """;
+
+        // when & then
+        mockMvc.perform(post("/point/charge/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requests))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[0].userPoint.point").value(1000L))
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[1].code").value("INVALID_AMOUNT"))
+                .andExpect(jsonPath("$[1].message").value("충전/사용 포인트는 0보다 커야합니다."))
+                .andExpect(jsonPath("$[2].success").value(true))
+                .andExpect(jsonPath("$[2].userPoint.point").value(1500L));
+    }
+
+    @Test
+    void 포인트_이체시_양쪽의_이체_후_포인트를_반환한다() throws Exception {
+        // given
+        long fromUserId = 14L;
+        long toUserId = 15L;
+        mockMvc.perform(patch("/point/{id}/charge", fromUserId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("1000"));
+
+        // when & then
+        mockMvc.perform(post("/point/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"fromUserId": %d, "toUserId": %d, "amount": 400}
+                                """.formatted(fromUserId, toUserId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sender.point").value(600L))
+                .andExpect(jsonPath("$.receiver.point").value(400L));
+    }
+
+    @Test
+    void 같은_Idempotency_Key로_충전을_재시도하면_한번만_충전된다() throws Exception {
+        // given
+        long userId = 16L;
+        long amount = 1000L;
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            MvcResult result = mockMvc.perform(patch("/point/{id}/charge", userId)
+                            .header("Idempotency-Key", "charge-16-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(String.valueOf(amount)))
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.point").value(amount));
+        }
+
+        // then
+        mockMvc.perform(get("/point/{id}", userId))
+                .andExpect(jsonPath("$.point").value(amount));
+        mockMvc.perform(get("/point/{id}/histories", userId))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void 포인트_처리_지표를_prometheus_형식으로_노출한다() throws Exception {
+        // given
+        long userId = 17L;
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("1000"));
+        mockMvc.perform(patch("/point/{id}/use", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("5000"));
+
+        // when & then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("point_stage_seconds_count{stage=\"lock_wait\"")))
+                .andExpect(content().string(containsString("point_stage_seconds_count{stage=\"history_insert\"")))
+                .andExpect(content().string(containsString("point_validation_rejections_total{reason=\"insufficient_point\",type=\"use\"")))
+                .andExpect(content().string(containsString("point_locks_live")))
+                .andExpect(content().string(containsString("point_reads_coalesced_total{result=\"load\"")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_count")));
+    }
+
+    @Test
+    void 요청_기한까지_사용자_락을_얻지_못하면_429와_Retry_After를_반환한다() throws Exception {
+        // given
+        long userId = 18L;
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread holder = Thread.ofPlatform().start(() -> {
+            ReentrantLock lock = lockManager.getLock(userId);
+            lock.lock();
+            try {
+                locked.countDown();
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+                lockManager.release(userId);
+            }
+        });
+        locked.await();
+
+        try {
+            // when & then
+            mockMvc.perform(patch("/point/{id}/charge", userId)
+                            .header("X-Request-Deadline", String.valueOf(System.currentTimeMillis() - 1000))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("1000"))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.code").value("429"));
+        } finally {
+            done.countDown();
+            holder.join();
+        }
+        mockMvc.perform(get("/point/{id}", userId))
+                .andExpect(jsonPath("$.point").value(0));
+    }
+
+    @Test
+    void 아주_먼_미래의_요청_기한은_넘치지_않고_최대_기한으로_줄인다() {
+        // given
+        String farFuture = String.valueOf(Long.MAX_VALUE);
+
+        // when
+        long startNanos = System.nanoTime();
+        long deadlineNanos = PointController.toDeadlineNanos(farFuture);
+
+        // then
+        long remainingNanos = deadlineNanos - startNanos;
+        assertTrue(remainingNanos > Duration.ofHours(23).toNanos(), "남은 시간: " + remainingNanos);
+        assertTrue(remainingNanos <= Duration.ofDays(1).toNanos() + Duration.ofSeconds(1).toNanos(), "남은 시간: " + remainingNanos);
+    }
+}
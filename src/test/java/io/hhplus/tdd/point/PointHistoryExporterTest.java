@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointHistoryExporterTest {
+
+    @Mock
+    private PointService pointService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 사용자별_이력을_한_줄에_하나씩_JSON으로_내보낸다() throws IOException {
+        // given
+        PointHistoryExporter exporter = new PointHistoryExporter(pointService, objectMapper);
+        when(pointService.selectHistoriesByUserId(1L)).thenReturn(List.of(
+                new PointHistory(1, 1L, 1000L, CHARGE, 10L),
+                new PointHistory(3, 1L, 500L, USE, 30L)));
+        when(pointService.selectHistoriesByUserId(2L)).thenReturn(List.of(
+                new PointHistory(2, 2L, 2000L, CHARGE, 20L)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        exporter.export(List.of(1L, 2L), out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(new PointHistory(1, 1L, 1000L, CHARGE, 10L), objectMapper.readValue(lines[0], PointHistory.class));
+        assertEquals(new PointHistory(3, 1L, 500L, USE, 30L), objectMapper.readValue(lines[1], PointHistory.class));
+        assertEquals(new PointHistory(2, 2L, 2000L, CHARGE, 20L), objectMapper.readValue(lines[2], PointHistory.class));
+    }
+
+    @Test
+    void 클라이언트_연결이_끊기면_남은_사용자를_조회하지_않고_중단한다() {
+        // given
+        PointHistoryExporter exporter = new PointHistoryExporter(pointService, objectMapper);
+        when(pointService.selectHistoriesByUserId(anyLong())).thenReturn(List.of(new PointHistory(1, 1L, 1000L, CHARGE, 10L)));
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void flush() throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // when & then
+        assertThrows(IOException.class, () -> exporter.export(List.of(1L, 2L, 3L), disconnected));
+        verify(pointService, times(1)).selectHistoriesByUserId(anyLong());
+    }
+}
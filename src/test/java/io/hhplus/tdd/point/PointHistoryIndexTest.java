@@ -0,0 +1,186 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointHistoryIndexTest {
+    private final PointHistoryIndex historyIndex = new PointHistoryIndex();
+
+    @Test
+    void 사용자의_이력만_기록된_순서대로_조회된다() {
+        // given
+        historyIndex.append(new PointHistory(1, 1L, 1000L, CHARGE, 1L));
+        historyIndex.append(new PointHistory(2, 2L, 2000L, CHARGE, 2L));
+        historyIndex.append(new PointHistory(3, 1L, 500L, USE, 3L));
+
+        // when
+        List<PointHistory> histories = historyIndex.selectAllByUserId(1L);
+
+        // then
+        assertEquals(List.of(1L, 3L), histories.stream().map(PointHistory::id).toList());
+        assertEquals(List.of(), historyIndex.selectAllByUserId(3L));
+    }
+
+    @Test
+    void 조회한_목록은_이후에_추가된_이력의_영향을_받지_않는다() {
+        // given
+        historyIndex.append(new PointHistory(1, 1L, 1000L, CHARGE, 1L));
+        List<PointHistory> histories = historyIndex.selectAllByUserId(1L);
+
+        // when
+        for (int i = 2; i <= 10; i++) {
+            historyIndex.append(new PointHistory(i, 1L, 1000L, CHARGE, i));
+        }
+
+        // then
+        assertEquals(1, histories.size());
+        assertEquals(10, historyIndex.selectAllByUserId(1L).size());
+        assertThrows(UnsupportedOperationException.class, () -> histories.add(new PointHistory(11, 1L, 1000L, CHARGE, 11L)));
+    }
+
+    @Test
+    void 커서_이후의_이력을_limit_개씩_나누어_조회한다() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            historyIndex.append(new PointHistory(i * 10, 1L, 1000L, CHARGE, i));
+        }
+
+        // when
+        PointHistoryPage first = historyIndex.selectPageByUserId(1L, 0, 2, Long.MIN_VALUE, Long.MAX_VALUE);
+        PointHistoryPage second = historyIndex.selectPageByUserId(1L, first.nextCursor(), 2, Long.MIN_VALUE, Long.MAX_VALUE);
+        PointHistoryPage last = historyIndex.selectPageByUserId(1L, second.nextCursor(), 2, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // then
+        assertEquals(List.of(10L, 20L), first.histories().stream().map(PointHistory::id).toList());
+        assertEquals(20L, first.nextCursor());
+        assertEquals(List.of(30L, 40L), second.histories().stream().map(PointHistory::id).toList());
+        assertEquals(40L, second.nextCursor());
+        assertEquals(List.of(50L), last.histories().stream().map(PointHistory::id).toList());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void 시간_구간에_해당하는_이력만_조회한다() {
+        // given
+        for (int i = 1; i <= 10; i++) {
+            historyIndex.append(new PointHistory(i, 1L, 1000L, CHARGE, i * 100L));
+        }
+
+        // when
+        // [300, 700) 구간 => 300, 400, 500, 600
+        PointHistoryPage first = historyIndex.selectPageByUserId(1L, 0, 3, 300L, 700L);
+        PointHistoryPage second = historyIndex.selectPageByUserId(1L, first.nextCursor(), 3, 300L, 700L);
+
+        // then
+        assertEquals(List.of(300L, 400L, 500L), first.histories().stream().map(PointHistory::updateMillis).toList());
+        assertEquals(List.of(600L), second.histories().stream().map(PointHistory::updateMillis).toList());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void 조건에_맞는_이력이_없으면_빈_페이지를_반환한다() {
+        // given
+        historyIndex.append(new PointHistory(1, 1L, 1000L, CHARGE, 100L));
+
+        // when & then
+        assertEquals(new PointHistoryPage(List.of(), null), historyIndex.selectPageByUserId(1L, 1, 10, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(new PointHistoryPage(List.of(), null), historyIndex.selectPageByUserId(1L, 0, 10, 200L, 300L));
+        assertEquals(new PointHistoryPage(List.of(), null), historyIndex.selectPageByUserId(2L, 0, 10, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    void 추가하는_도중에_조회해도_채워지지_않은_이력이_보이지_않는다() throws InterruptedException {
+        // given
+        long userId = 1L;
+        int historyCount = 100_000;
+        AtomicInteger brokenReads = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        CountDownLatch writerDone = new CountDownLatch(1);
+
+        // when
+        executorService.submit(() -> {
+            for (int i = 1; i <= historyCount; i++) {
+                historyIndex.append(new PointHistory(i, userId, i, CHARGE, i));
+            }
+            writerDone.countDown();
+        });
+        for (int r = 0; r < 3; r++) {
+            executorService.submit(() -> {
+                while (writerDone.getCount() > 0) {
+                    List<PointHistory> histories = historyIndex.selectAllByUserId(userId);
+                    for (int i = 0; i < histories.size(); i++) {
+                        PointHistory history = histories.get(i);
+                        if (history == null || history.id() != i + 1) {
+                            brokenReads.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+
+        // then
+        assertTrue(writerDone.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(0, brokenReads.get());
+        assertEquals(historyCount, historyIndex.selectAllByUserId(userId).size());
+    }
+
+    // 시간을 재는 테스트이므로 performanceTest 로만 실행
+    @Tag("performance")
+    @Test
+    void 전체_이력이_늘어나도_사용자_이력_조회_시간은_일정하다() {
+        // given
+        long targetUserId = 0L;
+        for (int i = 1; i <= 20; i++) {
+            historyIndex.append(new PointHistory(i, targetUserId, 1000L, CHARGE, i));
+        }
+
+        // when
+        // 다른 사용자 이력이 1만 건일 때와 200만 건일 때 조회 시간을 비교
+        appendOtherUsers(10_000);
+        long smallNanos = measureLookupNanos(targetUserId);
+        appendOtherUsers(2_000_000);
+        long largeNanos = measureLookupNanos(targetUserId);
+
+        // then
+        // 전체 이력 수(200배)에 비례하지 않아야 함. (측정 오차를 감안해 넉넉한 기준 사용)
+        assertTrue(largeNanos < smallNanos * 20 + 1_000, "10k: " + smallNanos + "ns, 2M: " + largeNanos + "ns");
+    }
+
+    private void appendOtherUsers(int count) {
+        List<PointHistory> histories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            histories.add(new PointHistory(i, 1 + i % 100_000, 1000L, CHARGE, i));
+        }
+        histories.forEach(historyIndex::append);
+    }
+
+    private long measureLookupNanos(long userId) {
+        int iterations = 200_000;
+        long sink = 0;
+        // 워밍업
+        for (int i = 0; i < iterations; i++) {
+            sink += historyIndex.selectAllByUserId(userId).size();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += historyIndex.selectAllByUserId(userId).size();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertTrue(sink > 0);
+        return elapsed / iterations;
+    }
+}
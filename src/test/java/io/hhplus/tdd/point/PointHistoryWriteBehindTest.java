@@ -0,0 +1,206 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.hhplus.tdd.point.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointHistoryWriteBehindTest {
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable();
+    private final TableHistoryStore historyStore = new TableHistoryStore(pointHistoryTable);
+
+    @Test
+    void 저장되기_전의_이력도_조회되고_저장이_끝나면_기록한_순서대로_id가_부여된다() throws InterruptedException {
+        // given
+        PointHistoryWriteBehind writeBehind = new PointHistoryWriteBehind(historyStore, new HistoryWriteBehindProperties(true, 2, 100, false));
+        long userId = 1L;
+
+        // when
+        writeBehind.enqueue(userId, 1000L, CHARGE, 1L);
+        writeBehind.enqueue(userId, 300L, USE, 2L);
+        writeBehind.enqueue(userId, 200L, CHARGE, 3L);
+        List<PointHistory> beforeFlush = writeBehind.selectAllByUserId(userId);
+
+        // then
+        assertEquals(List.of(1000L, 300L, 200L), beforeFlush.stream().map(PointHistory::amount).toList());
+
+        assertTrue(writeBehind.flush(5, TimeUnit.SECONDS));
+        List<PointHistory> afterFlush = writeBehind.selectAllByUserId(userId);
+        assertEquals(List.of(1000L, 300L, 200L), afterFlush.stream().map(PointHistory::amount).toList());
+        assertTrue(afterFlush.get(0).id() < afterFlush.get(1).id());
+        assertTrue(afterFlush.get(1).id() < afterFlush.get(2).id());
+        assertEquals(0, writeBehind.getQueueDepth());
+        assertEquals(3, writeBehind.getPersistedCount());
+        assertEquals(afterFlush, pointHistoryTable.selectAllByUserId(userId));
+
+        writeBehind.shutdown();
+    }
+
+    @Test
+    void 저장_중에_조회해도_이력이_중복되거나_누락되지_않는다() throws InterruptedException {
+        // given
+        PointHistoryWriteBehind writeBehind = new PointHistoryWriteBehind(historyStore, new HistoryWriteBehindProperties(true, 1, 100, false));
+        long userId = 2L;
+        int historyCount = 5;
+
+        // when
+        for (int i = 1; i <= historyCount; i++) {
+            writeBehind.enqueue(userId, i, CHARGE, i);
+        }
+
+        // then
+        while (writeBehind.getQueueDepth() > 0) {
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L),
+                    writeBehind.selectAllByUserId(userId).stream().map(PointHistory::amount).toList());
+        }
+
+        writeBehind.shutdown();
+    }
+
+    @Test
+    void 저장소_기록이_느려도_같은_워커가_맡은_다른_사용자의_조회는_기다리지_않는다() throws Exception {
+        // given
+        long slowUserId = 5L;
+        long otherUserId = 6L;
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HistoryStore slowStore = new HistoryStore() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                PointHistory pointHistory = historyStore.insert(userId, amount, type, updateMillis);
+                if (userId == slowUserId) {
+                    inserting.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return pointHistory;
+            }
+
+            @Override
+            public List<PointHistory> selectAllByUserId(long userId) {
+                return historyStore.selectAllByUserId(userId);
+            }
+
+            @Override
+            public PointHistoryPage selectPageByUserId(long userId, long cursor, int limit, long from, long to) {
+                return historyStore.selectPageByUserId(userId, cursor, limit, from, to);
+            }
+        };
+        PointHistoryWriteBehind writeBehind = new PointHistoryWriteBehind(slowStore, new HistoryWriteBehindProperties(true, 1, 100, false));
+        writeBehind.enqueue(slowUserId, 1000L, CHARGE, 1L);
+        writeBehind.enqueue(otherUserId, 2000L, CHARGE, 2L);
+        inserting.await();
+
+        // when
+        // 느린 사용자의 이력은 저장소에 들어갔지만 기록이 끝나지 않은 상태
+        CompletableFuture<List<PointHistory>> slowRead = CompletableFuture.supplyAsync(() -> writeBehind.selectAllByUserId(slowUserId));
+        List<PointHistory> otherHistories = assertTimeoutPreemptively(Duration.ofSeconds(1), () -> writeBehind.selectAllByUserId(otherUserId));
+        release.countDown();
+
+        // then
+        assertEquals(List.of(2000L), otherHistories.stream().map(PointHistory::amount).toList());
+        // 기록 중인 이력은 기록이 끝난 뒤 한 번만 조회됨
+        assertEquals(List.of(1000L), slowRead.get(5, TimeUnit.SECONDS).stream().map(PointHistory::amount).toList());
+
+        writeBehind.shutdown();
+    }
+
+    @Test
+    void 기록_중인_이력을_조회하면_저장소를_반복해서_읽지_않고_기록이_끝나기를_기다린다() throws Exception {
+        // given
+        long userId = 7L;
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch firstRead = new CountDownLatch(1);
+        AtomicInteger readCount = new AtomicInteger();
+        HistoryStore slowStore = new HistoryStore() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                PointHistory pointHistory = historyStore.insert(userId, amount, type, updateMillis);
+                inserting.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return pointHistory;
+            }
+
+            @Override
+            public List<PointHistory> selectAllByUserId(long userId) {
+                readCount.incrementAndGet();
+                firstRead.countDown();
+                return historyStore.selectAllByUserId(userId);
+            }
+
+            @Override
+            public PointHistoryPage selectPageByUserId(long userId, long cursor, int limit, long from, long to) {
+                return historyStore.selectPageByUserId(userId, cursor, limit, from, to);
+            }
+        };
+        PointHistoryWriteBehind writeBehind = new PointHistoryWriteBehind(slowStore, new HistoryWriteBehindProperties(true, 1, 100, false));
+        writeBehind.enqueue(userId, 1000L, CHARGE, 1L);
+        inserting.await();
+
+        // when
+        CompletableFuture<List<PointHistory>> read = CompletableFuture.supplyAsync(() -> writeBehind.selectAllByUserId(userId));
+        firstRead.await();
+        TimeUnit.MILLISECONDS.sleep(100);
+        release.countDown();
+
+        // then
+        assertEquals(List.of(1000L), read.get(5, TimeUnit.SECONDS).stream().map(PointHistory::amount).toList());
+        // 기록 전에 한 번, 기록이 끝난 뒤에 한 번
+        assertEquals(2, readCount.get());
+
+        writeBehind.shutdown();
+    }
+
+    @Test
+    void 대기열이_가득_차면_자리가_날_때까지_기다렸다가_기록한다() throws InterruptedException {
+        // given
+        PointHistoryWriteBehind writeBehind = new PointHistoryWriteBehind(historyStore, new HistoryWriteBehindProperties(true, 1, 1, false));
+        long userId = 3L;
+
+        // when
+        for (int i = 1; i <= 4; i++) {
+            writeBehind.enqueue(userId, i, CHARGE, i);
+        }
+
+        // then
+        assertTrue(writeBehind.getBackpressureCount() > 0);
+        assertTrue(writeBehind.flush(5, TimeUnit.SECONDS));
+        assertEquals(4, pointHistoryTable.selectAllByUserId(userId).size());
+
+        writeBehind.shutdown();
+    }
+
+    @Test
+    void 종료하면_남은_이력을_모두_저장하고_이후_기록은_거부한다() throws InterruptedException {
+        // given
+        PointHistoryWriteBehind writeBehind = new PointHistoryWriteBehind(historyStore, new HistoryWriteBehindProperties(true, 2, 100, false));
+        long userId = 4L;
+        writeBehind.enqueue(userId, 1000L, CHARGE, 1L);
+        writeBehind.enqueue(userId + 1, 2000L, CHARGE, 2L);
+
+        // when
+        writeBehind.shutdown();
+
+        // then
+        assertEquals(1, pointHistoryTable.selectAllByUserId(userId).size());
+        assertEquals(1, pointHistoryTable.selectAllByUserId(userId + 1).size());
+        assertThrows(IllegalStateException.class, () -> writeBehind.enqueue(userId, 1000L, CHARGE, 3L));
+    }
+}
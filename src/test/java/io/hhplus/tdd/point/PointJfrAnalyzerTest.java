@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.UserPointTable;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointJfrAnalyzerTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void 기록에서_락_대기가_긴_사용자_순으로_요약한다() throws Exception {
+        // given
+        Path file = directory.resolve("point.jfr");
+        try (Recording recording = new Recording(PointFlightRecorder.settings())) {
+            recording.start();
+            waitForLock(7L, 30);
+            waitForLock(7L, 30);
+            waitForLock(8L, 10);
+            // 경합 없이 얻은 락은 임계값(100us)보다 짧아 기록되지 않음
+            ReentrantLock uncontended = new ReentrantLock();
+            UserLockEvent.lock(uncontended, 9L);
+            uncontended.unlock();
+            new TableBalanceStore(new UserPointTable()).selectById(7L);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // when
+        PointJfrAnalyzer.Summary summary = PointJfrAnalyzer.analyze(file);
+
+        // then
+        List<PointJfrAnalyzer.UserContention> top = summary.topContendedUsers(10);
+        assertEquals(List.of(7L, 8L), top.stream().map(PointJfrAnalyzer.UserContention::userId).toList());
+        assertEquals(2, top.get(0).count());
+        assertTrue(top.get(0).totalWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(40));
+        assertEquals(1, summary.tableCalls().size());
+        assertEquals("UserPointTable", summary.tableCalls().get(0).table());
+        assertEquals("selectById", summary.tableCalls().get(0).operation());
+    }
+
+    /**
+     * 다른 스레드가 락을 holdMillis 동안 잡고 있는 사이에 락을 요청합니다.
+     */
+    private static void waitForLock(long userId, long holdMillis) throws InterruptedException {
+        ReentrantLock lock = new ReentrantLock();
+        CountDownLatch locked = new CountDownLatch(1);
+        Thread holder = Thread.ofPlatform().start(() -> {
+            lock.lock();
+            try {
+                locked.countDown();
+                TimeUnit.MILLISECONDS.sleep(holdMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        });
+        locked.await();
+        UserLockEvent.lock(lock, userId);
+        lock.unlock();
+        holder.join();
+    }
+}
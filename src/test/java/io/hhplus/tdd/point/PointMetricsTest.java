@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UserLockManager lockManager = new UserLockManager();
+    private final UserPointReadCoalescer readCoalescer = new UserPointReadCoalescer(new ReadCoalescingProperties(true));
+    private final PointMetrics metrics = new PointMetrics(registry, lockManager, readCoalescer);
+
+    @Test
+    void 단계별_소요_시간을_stage_태그로_나누어_기록한다() {
+        // when
+        metrics.recordLockWait(TimeUnit.MILLISECONDS.toNanos(1));
+        metrics.recordSelect(TimeUnit.MILLISECONDS.toNanos(2));
+        metrics.recordSelect(TimeUnit.MILLISECONDS.toNanos(4));
+
+        // then
+        assertEquals(1.0, registry.get("point.stage").tag("stage", "lock_wait").functionTimer().count());
+        assertEquals(2.0, registry.get("point.stage").tag("stage", "select").functionTimer().count());
+        assertEquals(6.0, registry.get("point.stage").tag("stage", "select").functionTimer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(0.0, registry.get("point.stage").tag("stage", "update").functionTimer().count());
+    }
+
+    @Test
+    void 검증_거절을_종류와_사유별로_센다() {
+        // when
+        metrics.recordRejection(TransactionType.USE, PointValidationException.Reason.INSUFFICIENT_POINT);
+        metrics.recordRejection(TransactionType.USE, PointValidationException.Reason.INSUFFICIENT_POINT);
+        metrics.recordRejection(TransactionType.CHARGE, PointValidationException.Reason.MAX_POINT_EXCEEDED);
+
+        // then
+        assertEquals(2.0, registry.get("point.validation.rejections").tags("type", "use", "reason", "insufficient_point").counter().count());
+        assertEquals(1.0, registry.get("point.validation.rejections").tags("type", "charge", "reason", "max_point_exceeded").counter().count());
+        assertEquals(0.0, registry.get("point.validation.rejections").tags("type", "charge", "reason", "invalid_amount").counter().count());
+    }
+
+    @Test
+    void 사용_중인_사용자_락_수를_게이지로_보여준다() {
+        // given
+        lockManager.getLock(1L);
+        lockManager.getLock(2L);
+
+        // when
+        double live = registry.get("point.locks.live").gauge().value();
+        lockManager.release(2L);
+
+        // then
+        assertEquals(2.0, live);
+        assertEquals(1.0, registry.get("point.locks.live").gauge().value());
+        assertEquals(1.0, registry.get("point.locks.evictions").functionCounter().count());
+    }
+
+    @Test
+    void 조회_합치기_결과를_저장소_조회와_함께_받은_조회로_나누어_센다() {
+        // given
+        readCoalescer.read(1L, UserPoint::empty);
+        readCoalescer.read(2L, UserPoint::empty);
+
+        // when & then
+        assertEquals(2.0, registry.get("point.reads.coalesced").tag("result", "load").functionCounter().count());
+        assertEquals(0.0, registry.get("point.reads.coalesced").tag("result", "shared").functionCounter().count());
+        assertEquals(0.0, registry.get("point.reads.inflight").gauge().value());
+    }
+}
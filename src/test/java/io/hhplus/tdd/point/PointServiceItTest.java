@@ -306,4 +306,106 @@ class PointServiceItTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    class MailboxTest {
+        @Test
+        void 메일박스로_제출한_동일_사용자의_명령은_순서대로_처리되고_Future로_결과를_받는다() throws Exception {
+            // given
+            long userId = 10L;
+            long amount = 1000L;
+
+            // when
+            CompletableFuture<UserPoint> charge1 = pointService.chargeAsync(userId, amount);
+            CompletableFuture<UserPoint> charge2 = pointService.chargeAsync(userId, amount * 2);
+            CompletableFuture<UserPoint> use = pointService.useAsync(userId, amount * 3);
+
+            // then
+            assertEquals(amount, charge1.get(10, TimeUnit.SECONDS).point());
+            assertEquals(amount * 3, charge2.get(10, TimeUnit.SECONDS).point());
+            assertEquals(0, use.get(10, TimeUnit.SECONDS).point());
+
+            List<PointHistory> histories = pointService.selectHistoriesByUserId(userId);
+            assertEquals(List.of(CHARGE, CHARGE, USE), histories.stream().map(PointHistory::type).toList());
+        }
+
+        @Test
+        void 메일박스_명령이_검증에_실패하면_Future가_예외로_완료된다() {
+            // given
+            long userId = 11L;
+
+            // when
+            CompletableFuture<UserPoint> use = pointService.useAsync(userId, 1000L);
+
+            // then
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> use.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        }
+    }
+
+    @Nested
+    class TransferTest {
+        @Test
+        void 포인트_이체시_양쪽_포인트와_이력이_반영된다() {
+            // given
+            long fromUserId = 20L;
+            long toUserId = 21L;
+            pointService.charge(fromUserId, 5000L);
+
+            // when
+            PointTransferResult result = pointService.transfer(fromUserId, toUserId, 3000L);
+
+            // then
+            assertEquals(2000L, result.sender().point());
+            assertEquals(3000L, result.receiver().point());
+            assertEquals(2000L, pointService.selectById(fromUserId).point());
+            assertEquals(3000L, pointService.selectById(toUserId).point());
+
+            List<PointHistory> senderHistories = pointService.selectHistoriesByUserId(fromUserId);
+            assertEquals(USE, senderHistories.get(senderHistories.size() - 1).type());
+            List<PointHistory> receiverHistories = pointService.selectHistoriesByUserId(toUserId);
+            assertEquals(1, receiverHistories.size());
+            assertEquals(CHARGE, receiverHistories.get(0).type());
+        }
+
+        @Test
+        void 여러_사용자_사이의_양방향_이체가_동시에_들어와도_교착없이_처리되고_총합이_보존된다() throws Exception {
+            // given
+            long[] userIds = {22L, 23L, 24L};
+            long initialPoint = 10000L;
+            for (long userId : userIds) {
+                pointService.charge(userId, initialPoint);
+            }
+            int transferCount = 24;
+            ExecutorService executorService = Executors.newFixedThreadPool(transferCount);
+            CountDownLatch startLatch = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+
+            // when
+            // 모든 방향(A→B, B→A, ...)의 이체를 동시에 시작
+            for (int i = 0; i < transferCount; i++) {
+                long fromUserId = userIds[i % userIds.length];
+                long toUserId = userIds[(i + 1 + i / userIds.length % 2) % userIds.length];
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    return pointService.transfer(fromUserId, toUserId, 100L);
+                }));
+            }
+            startLatch.countDown();
+
+            // then
+            for (Future<?> future : futures) {
+                assertDoesNotThrow(() -> future.get(60, TimeUnit.SECONDS), "이체가 시간 내에 완료되지 않았습니다(교착 의심)");
+            }
+            executorService.shutdown();
+
+            long total = 0;
+            int historyCount = 0;
+            for (long userId : userIds) {
+                total += pointService.selectById(userId).point();
+                historyCount += pointService.selectHistoriesByUserId(userId).size();
+            }
+            assertEquals(initialPoint * userIds.length, total);
+            assertEquals(userIds.length + transferCount * 2, historyCount);  // 초기 충전 + 이체마다 USE/CHARGE 각 1건
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.wal.WalPointStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -10,10 +9,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static io.hhplus.tdd.point.TransactionType.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -23,14 +31,35 @@ import static org.mockito.Mockito.*;
 class PointServiceTest {
 
     @Mock
-    private UserPointTable userPointTable;
+    private BalanceStore balanceStore;
 
     @Mock
-    private PointHistoryTable pointHistoryTable;
+    private HistoryStore historyStore;
 
     @Mock
     private UserLockManager lockManager;
 
+    @Mock
+    private UserVersionManager versionManager;
+
+    @Mock
+    private PointCommandBatcher commandBatcher;
+
+    @Mock
+    private PointHistoryWriteBehind historyWriteBehind;
+
+    @Mock
+    private UserPointCache userPointCache;
+
+    @Mock
+    private UserPointReadCoalescer readCoalescer;
+
+    @Mock
+    private PointWriteExecutor writeExecutor;
+
+    @Mock
+    private PointMetrics metrics;
+
     @InjectMocks
     private PointService pointService;
 
@@ -47,15 +76,15 @@ class PointServiceTest {
             UserPoint updatedPoint = new UserPoint(userId, currentPoint + chargeAmount, System.currentTimeMillis());
 
             when(lockManager.getLock(userId)).thenReturn(new ReentrantLock());
-            when(userPointTable.selectById(userId)).thenReturn(initialPoint);
-            when(userPointTable.insertOrUpdate(userId, currentPoint + chargeAmount)).thenReturn(updatedPoint);
+            when(balanceStore.selectById(userId)).thenReturn(initialPoint);
+            when(balanceStore.insertOrUpdate(userId, currentPoint + chargeAmount)).thenReturn(updatedPoint);
 
             // when
             UserPoint result = pointService.charge(userId, chargeAmount);
 
             // then
             assertEquals(currentPoint + chargeAmount, result.point());
-            verify(pointHistoryTable).insert(eq(userId), eq(chargeAmount), eq(CHARGE), anyLong());
+            verify(historyStore).insert(eq(userId), eq(chargeAmount), eq(CHARGE), anyLong());
         }
 
         @Test
@@ -67,13 +96,13 @@ class PointServiceTest {
             UserPoint userPoint = new UserPoint(userId, currentPoint, System.currentTimeMillis());
 
             when(lockManager.getLock(userId)).thenReturn(new ReentrantLock());
-            when(userPointTable.selectById(userId)).thenReturn(userPoint);
+            when(balanceStore.selectById(userId)).thenReturn(userPoint);
 
             // when & then
             assertThrows(IllegalArgumentException.class,
                     () -> pointService.charge(userId, chargeAmount));
-            verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
-            verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+            verify(balanceStore, never()).insertOrUpdate(anyLong(), anyLong());
+            verify(historyStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
         }
     }
 
@@ -89,15 +118,15 @@ class PointServiceTest {
             UserPoint updatedPoint = new UserPoint(userId, currentPoint - useAmount, System.currentTimeMillis());
 
             when(lockManager.getLock(userId)).thenReturn(new ReentrantLock());
-            when(userPointTable.selectById(userId)).thenReturn(initialPoint);
-            when(userPointTable.insertOrUpdate(userId, currentPoint - useAmount)).thenReturn(updatedPoint);
+            when(balanceStore.selectById(userId)).thenReturn(initialPoint);
+            when(balanceStore.insertOrUpdate(userId, currentPoint - useAmount)).thenReturn(updatedPoint);
 
             // when
             UserPoint result = pointService.use(userId, useAmount);
 
             // then
             assertEquals(currentPoint - useAmount, result.point());
-            verify(pointHistoryTable).insert(eq(userId), eq(useAmount), eq(USE), anyLong());
+            verify(historyStore).insert(eq(userId), eq(useAmount), eq(USE), anyLong());
         }
 
         @Test
@@ -109,13 +138,31 @@ class PointServiceTest {
             UserPoint userPoint = new UserPoint(userId, currentPoint, System.currentTimeMillis());
 
             when(lockManager.getLock(userId)).thenReturn(new ReentrantLock());
-            when(userPointTable.selectById(userId)).thenReturn(userPoint);
+            when(balanceStore.selectById(userId)).thenReturn(userPoint);
 
             // when & then
             assertThrows(IllegalArgumentException.class,
                     () -> pointService.use(userId, useAmount));
-            verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
-            verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+            verify(balanceStore, never()).insertOrUpdate(anyLong(), anyLong());
+            verify(historyStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        }
+
+        @Test
+        void 포인트_사용이_거절되면_거절_사유를_집계한다() {
+            // given
+            long userId = 1L;
+            UserPoint userPoint = new UserPoint(userId, 500L, System.currentTimeMillis());
+
+            when(lockManager.getLock(userId)).thenReturn(new ReentrantLock());
+            when(balanceStore.selectById(userId)).thenReturn(userPoint);
+
+            // when
+            PointValidationException exception = assertThrows(PointValidationException.class,
+                    () -> pointService.use(userId, 1000L));
+
+            // then
+            assertEquals(PointValidationException.Reason.INSUFFICIENT_POINT, exception.getReason());
+            verify(metrics).recordRejection(USE, PointValidationException.Reason.INSUFFICIENT_POINT);
         }
     }
 
@@ -128,13 +175,13 @@ class PointServiceTest {
         UserPoint userPoint = new UserPoint(userId, currentPoint, System.currentTimeMillis());
 
         when(lockManager.getLock(userId)).thenReturn(new ReentrantLock());
-        when(userPointTable.selectById(userId)).thenReturn(userPoint);
+        when(balanceStore.selectById(userId)).thenReturn(userPoint);
 
         // when & then
         assertThrows(IllegalArgumentException.class,
                 () -> pointService.charge(userId, negativeAmount));
-        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
-        verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        verify(balanceStore, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(historyStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
     }
 
     @Test
@@ -146,14 +193,602 @@ class PointServiceTest {
         UserPoint userPoint = new UserPoint(userId, currentPoint, System.currentTimeMillis());
 
         when(lockManager.getLock(userId)).thenReturn(new ReentrantLock());
-        when(userPointTable.selectById(userId)).thenReturn(userPoint);
+        when(balanceStore.selectById(userId)).thenReturn(userPoint);
 
         // when & then
         assertThrows(IllegalArgumentException.class,
                 () -> pointService.use(userId, negativeAmount));
-        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
-        verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        verify(balanceStore, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(historyStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Nested
+    class GroupCommitTest {
+        @Test
+        void 묶인_명령은_한_번만_조회하고_한_번만_업데이트하며_각_명령에는_반영_직후_포인트를_반환한다() {
+            // given
+            long userId = 1L;
+            PointCommand charge = new PointCommand(userId, CHARGE, 1000L);
+            PointCommand use = new PointCommand(userId, USE, 300L);
+            PointCommand overUse = new PointCommand(userId, USE, 5000L);  // 잔액 부족으로 실패
+            PointCommand charge2 = new PointCommand(userId, CHARGE, 200L);
+
+            when(balanceStore.selectById(userId)).thenReturn(new UserPoint(userId, 500L, System.currentTimeMillis()));
+            when(balanceStore.insertOrUpdate(userId, 1400L)).thenReturn(new UserPoint(userId, 1400L, System.currentTimeMillis()));
+
+            // when
+            pointService.applyBatch(List.of(charge, use, overUse, charge2));
+
+            // then
+            assertEquals(1500L, charge.result().join().point());
+            assertEquals(1200L, use.result().join().point());
+            CompletionException exception = assertThrows(CompletionException.class, () -> overUse.result().join());
+            assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+            assertEquals(1400L, charge2.result().join().point());
+
+            verify(balanceStore, times(1)).selectById(userId);
+            verify(balanceStore, times(1)).insertOrUpdate(anyLong(), anyLong());
+            verify(historyStore, times(3)).insert(eq(userId), anyLong(), any(), anyLong());
+        }
+
+        @Test
+        void 묶인_명령의_이력_기록이_도중에_실패하면_포인트를_되돌리고_기록된_이력을_상쇄하며_결과를_완료하지_않는다() {
+            // given
+            long userId = 1L;
+            PointCommand charge = new PointCommand(userId, CHARGE, 1000L);
+            PointCommand use = new PointCommand(userId, USE, 300L);
+            UserPoint revertedPoint = new UserPoint(userId, 500L, System.currentTimeMillis());
+
+            when(balanceStore.selectById(userId)).thenReturn(new UserPoint(userId, 500L, System.currentTimeMillis()));
+            when(balanceStore.insertOrUpdate(userId, 1200L)).thenReturn(new UserPoint(userId, 1200L, System.currentTimeMillis()));
+            when(balanceStore.insertOrUpdate(userId, 500L)).thenReturn(revertedPoint);
+            // 두 번째 명령(사용 300)의 이력 기록만 실패
+            when(historyStore.insert(eq(userId), anyLong(), any(), anyLong())).thenAnswer(invocation -> {
+                if (invocation.getArgument(1, Long.class) == 300L) {
+                    throw new IllegalStateException("이력 기록 실패");
+                }
+                return null;
+            });
+
+            // when
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> pointService.applyBatch(List.of(charge, use)));
+
+            // then
+            assertEquals("이력 기록 실패", exception.getMessage());
+            verify(balanceStore).insertOrUpdate(userId, 500L);
+            verify(userPointCache).put(revertedPoint);
+            verify(historyStore).insert(eq(userId), eq(1000L), eq(CHARGE), anyLong());
+            verify(historyStore).insert(eq(userId), eq(1000L), eq(USE), anyLong());
+            assertFalse(charge.result().isDone());
+            assertFalse(use.result().isDone());
+        }
+
+        @Test
+        void 포인트와_이력을_한_번에_기록하는_저장소이면_묶인_명령을_저장소에_한_번에_넘긴다() {
+            // given
+            long userId = 1L;
+            WalPointStore store = mock(WalPointStore.class);
+            PointService service = new PointService(store, store, lockManager, versionManager, null, commandBatcher,
+                    historyWriteBehind, userPointCache, readCoalescer, writeExecutor, metrics);
+            PointCommand charge = new PointCommand(userId, CHARGE, 1000L);
+            PointCommand use = new PointCommand(userId, USE, 300L);
+            UserPoint updatedPoint = new UserPoint(userId, 1200L, System.currentTimeMillis());
+            when(store.selectById(userId)).thenReturn(new UserPoint(userId, 500L, System.currentTimeMillis()));
+            when(store.insertOrUpdateWithHistories(eq(userId), eq(List.of(charge, use)), eq(List.of(1500L, 1200L)), anyLong())).thenReturn(updatedPoint);
+
+            // when
+            service.applyBatch(List.of(charge, use));
+
+            // then
+            assertEquals(1500L, charge.result().join().point());
+            assertEquals(1200L, use.result().join().point());
+            verify(userPointCache).put(updatedPoint);
+            verify(store, never()).insertOrUpdate(anyLong(), anyLong());
+            verify(store, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        }
+
+        @Test
+        void 묶인_명령이_모두_실패하면_포인트를_업데이트하지_않는다() {
+            // given
+            long userId = 1L;
+            PointCommand use = new PointCommand(userId, USE, 1000L);
+
+            when(balanceStore.selectById(userId)).thenReturn(new UserPoint(userId, 500L, System.currentTimeMillis()));
+
+            // when
+            pointService.applyBatch(List.of(use));
+
+            // then
+            assertTrue(use.result().isCompletedExceptionally());
+            verify(balanceStore, never()).insertOrUpdate(anyLong(), anyLong());
+            verify(historyStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        }
+    }
+
+    @Nested
+    class CacheTest {
+        @Test
+        void 캐시에_있는_포인트는_테이블을_조회하지_않고_반환한다() {
+            // given
+            long userId = 1L;
+            UserPoint cached = new UserPoint(userId, 1000L, System.currentTimeMillis());
+            when(userPointCache.get(userId)).thenReturn(cached);
+
+            // when
+            UserPoint result = pointService.selectById(userId);
+
+            // then
+            assertEquals(cached, result);
+            verify(balanceStore, never()).selectById(anyLong());
+        }
+
+        @Test
+        void 캐시에_없는_포인트는_테이블에서_조회하여_캐시에_채운다() {
+            // given
+            long userId = 1L;
+            UserPoint userPoint = new UserPoint(userId, 1000L, System.currentTimeMillis());
+            when(userPointCache.writeStamp(userId)).thenReturn(7L);
+            when(balanceStore.selectById(userId)).thenReturn(userPoint);
+
+            // when
+            UserPoint result = pointService.selectById(userId);
+
+            // then
+            assertEquals(userPoint, result);
+            verify(userPointCache).fill(userId, userPoint, 7L);
+        }
+
+        @Test
+        void 포인트_충전시_변경된_포인트를_캐시에_반영한다() {
+            // given
+            long userId = 1L;
+            UserPoint updatedPoint = new UserPoint(userId, 1500L, System.currentTimeMillis());
+            when(lockManager.getLock(userId)).thenReturn(new ReentrantLock());
+            when(balanceStore.selectById(userId)).thenReturn(new UserPoint(userId, 1000L, System.currentTimeMillis()));
+            when(balanceStore.insertOrUpdate(userId, 1500L)).thenReturn(updatedPoint);
+
+            // when
+            pointService.charge(userId, 500L);
+
+            // then
+            verify(userPointCache).put(updatedPoint);
+        }
     }
 
+    @Nested
+    class ParallelWriteTest {
+        @Test
+        void 동시_쓰기를_사용하면_포인트와_이력을_모두_반영한다() {
+            // given
+            long userId = 1L;
+            UserPoint updatedPoint = new UserPoint(userId, 1500L, System.currentTimeMillis());
+            givenParallelWrite(userId, 1000L);
+            when(balanceStore.insertOrUpdate(userId, 1500L)).thenReturn(updatedPoint);
+
+            // when
+            UserPoint result = pointService.charge(userId, 500L);
+
+            // then
+            assertEquals(updatedPoint, result);
+            verify(userPointCache).put(updatedPoint);
+            verify(historyStore).insert(eq(userId), eq(500L), eq(CHARGE), anyLong());
+        }
+
+        @Test
+        void 이력_기록이_실패하면_포인트를_변경_전으로_되돌린다() {
+            // given
+            long userId = 1L;
+            UserPoint revertedPoint = new UserPoint(userId, 1000L, System.currentTimeMillis());
+            givenParallelWrite(userId, 1000L);
+            when(balanceStore.insertOrUpdate(userId, 1500L)).thenReturn(new UserPoint(userId, 1500L, System.currentTimeMillis()));
+            when(balanceStore.insertOrUpdate(userId, 1000L)).thenReturn(revertedPoint);
+            when(historyStore.insert(eq(userId), eq(500L), eq(CHARGE), anyLong())).thenThrow(new IllegalStateException("이력 기록 실패"));
 
-}
\ No newline at end of file
+            // when
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> pointService.charge(userId, 500L));
+
+            // then
+            assertEquals("이력 기록 실패", exception.getMessage());
+            verify(balanceStore).insertOrUpdate(userId, 1000L);
+            verify(userPointCache).put(revertedPoint);
+        }
+
+        @Test
+        void 동시_쓰기를_사용하면_포인트_업데이트는_호출한_스레드에서_수행한다() {
+            // given
+            long userId = 1L;
+            Thread caller = Thread.currentThread();
+            givenParallelWrite(userId, 1000L);
+            when(balanceStore.insertOrUpdate(userId, 1500L)).thenAnswer(invocation -> {
+                assertSame(caller, Thread.currentThread());
+                return new UserPoint(userId, 1500L, System.currentTimeMillis());
+            });
+
+            // when
+            UserPoint result = pointService.charge(userId, 500L);
+
+            // then
+            assertEquals(1500L, result.point());
+            verify(writeExecutor, times(1)).submit(any());
+        }
+
+        @Test
+        void 되돌리기도_실패하면_원래_예외에_되돌리기_실패를_덧붙여_던진다() {
+            // given
+            long userId = 1L;
+            givenParallelWrite(userId, 1000L);
+            when(balanceStore.insertOrUpdate(userId, 1500L)).thenReturn(new UserPoint(userId, 1500L, System.currentTimeMillis()));
+            when(balanceStore.insertOrUpdate(userId, 1000L)).thenThrow(new IllegalStateException("되돌리기 실패"));
+            when(historyStore.insert(eq(userId), eq(500L), eq(CHARGE), anyLong())).thenThrow(new IllegalStateException("이력 기록 실패"));
+
+            // when
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> pointService.charge(userId, 500L));
+
+            // then
+            assertEquals("이력 기록 실패", exception.getMessage());
+            assertEquals(1, exception.getSuppressed().length);
+            assertEquals("되돌리기 실패", exception.getSuppressed()[0].getMessage());
+        }
+
+        @Test
+        void 되돌리기가_실패하면_캐시에는_저장소에_남은_변경_후_포인트가_남는다() {
+            // given
+            long userId = 1L;
+            UserPoint updatedPoint = new UserPoint(userId, 1500L, System.currentTimeMillis());
+            givenParallelWrite(userId, 1000L);
+            when(balanceStore.insertOrUpdate(userId, 1500L)).thenReturn(updatedPoint);
+            when(balanceStore.insertOrUpdate(userId, 1000L)).thenThrow(new IllegalStateException("되돌리기 실패"));
+            when(historyStore.insert(eq(userId), eq(500L), eq(CHARGE), anyLong())).thenThrow(new IllegalStateException("이력 기록 실패"));
+
+            // when
+            assertThrows(IllegalStateException.class, () -> pointService.charge(userId, 500L));
+
+            // then
+            verify(userPointCache).put(updatedPoint);
+        }
+
+        @Test
+        void 포인트_업데이트와_이력_기록이_모두_실패하면_이력_기록_실패를_덧붙여_던진다() {
+            // given
+            long userId = 1L;
+            givenParallelWrite(userId, 1000L);
+            when(balanceStore.insertOrUpdate(userId, 700L)).thenThrow(new IllegalStateException("포인트 업데이트 실패"));
+            when(historyStore.insert(eq(userId), eq(300L), eq(USE), anyLong())).thenThrow(new IllegalStateException("이력 기록 실패"));
+
+            // when
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> pointService.use(userId, 300L));
+
+            // then
+            assertEquals("포인트 업데이트 실패", exception.getMessage());
+            assertEquals(1, exception.getSuppressed().length);
+            assertEquals("이력 기록 실패", exception.getSuppressed()[0].getMessage());
+            verify(userPointCache, never()).put(any());
+        }
+
+        @Test
+        void 포인트_업데이트가_실패하면_상쇄_이력을_기록한다() {
+            // given
+            long userId = 1L;
+            givenParallelWrite(userId, 1000L);
+            when(balanceStore.insertOrUpdate(userId, 700L)).thenThrow(new IllegalStateException("포인트 업데이트 실패"));
+
+            // when
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> pointService.use(userId, 300L));
+
+            // then
+            assertEquals("포인트 업데이트 실패", exception.getMessage());
+            verify(historyStore).insert(eq(userId), eq(300L), eq(USE), anyLong());
+            verify(historyStore).insert(eq(userId), eq(300L), eq(CHARGE), anyLong());
+            verify(userPointCache, never()).put(any());
+        }
+
+        private void givenParallelWrite(long userId, long currentPoint) {
+            when(writeExecutor.isEnabled()).thenReturn(true);
+            when(writeExecutor.submit(any())).thenAnswer(invocation -> CompletableFuture.supplyAsync(invocation.getArgument(0)));
+            when(lockManager.getLock(userId)).thenReturn(new ReentrantLock());
+            when(balanceStore.selectById(userId)).thenReturn(new UserPoint(userId, currentPoint, System.currentTimeMillis()));
+        }
+    }
+
+    @Nested
+    class TransferTest {
+        @Test
+        void 포인트_이체시_양쪽_포인트를_반영하고_각각의_이력을_기록한다() {
+            // given
+            long fromUserId = 1L;
+            long toUserId = 2L;
+            givenUsers(fromUserId, 1000L, toUserId, 500L);
+            when(balanceStore.insertOrUpdate(fromUserId, 700L)).thenReturn(new UserPoint(fromUserId, 700L, System.currentTimeMillis()));
+            when(balanceStore.insertOrUpdate(toUserId, 800L)).thenReturn(new UserPoint(toUserId, 800L, System.currentTimeMillis()));
+
+            // when
+            PointTransferResult result = pointService.transfer(fromUserId, toUserId, 300L);
+
+            // then
+            assertEquals(700L, result.sender().point());
+            assertEquals(800L, result.receiver().point());
+            verify(historyStore).insert(eq(fromUserId), eq(300L), eq(USE), anyLong());
+            verify(historyStore).insert(eq(toUserId), eq(300L), eq(CHARGE), anyLong());
+        }
+
+        @Test
+        void 포인트_이체시_보내는_방향과_관계없이_userId가_작은_사용자의_락을_먼저_획득한다() {
+            // given
+            long fromUserId = 2L;
+            long toUserId = 1L;
+            givenUsers(fromUserId, 1000L, toUserId, 500L);
+            when(balanceStore.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation ->
+                    new UserPoint(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis()));
+
+            // when
+            pointService.transfer(fromUserId, toUserId, 300L);
+
+            // then
+            var inOrder = inOrder(lockManager);
+            inOrder.verify(lockManager).getLock(1L);
+            inOrder.verify(lockManager).getLock(2L);
+            verify(lockManager).release(1L);
+            verify(lockManager).release(2L);
+        }
+
+        @Test
+        void 보내는_사용자의_잔액이_부족하면_어느쪽도_반영하지_않는다() {
+            // given
+            long fromUserId = 1L;
+            long toUserId = 2L;
+            givenUsers(fromUserId, 100L, toUserId, 500L);
+
+            // when
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> pointService.transfer(fromUserId, toUserId, 300L));
+
+            // then
+            assertEquals("포인트가 부족합니다.", exception.getMessage());
+            verify(balanceStore, never()).insertOrUpdate(anyLong(), anyLong());
+            verify(historyStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        }
+
+        @Test
+        void 받는_사용자의_포인트가_최대치를_초과하면_어느쪽도_반영하지_않는다() {
+            // given
+            long fromUserId = 1L;
+            long toUserId = 2L;
+            givenUsers(fromUserId, 1000L, toUserId, 99900L);
+
+            // when
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> pointService.transfer(fromUserId, toUserId, 300L));
+
+            // then
+            assertEquals("포인트가 최대치를 초과했습니다.", exception.getMessage());
+            verify(balanceStore, never()).insertOrUpdate(anyLong(), anyLong());
+        }
+
+        @Test
+        void 받는_사용자의_이력_기록이_실패하면_양쪽_포인트를_되돌려_총합이_유지된다() {
+            // given
+            long fromUserId = 1L;
+            long toUserId = 2L;
+            Map<Long, Long> balances = new ConcurrentHashMap<>(Map.of(fromUserId, 1000L, toUserId, 500L));
+            when(lockManager.getLock(anyLong())).thenAnswer(invocation -> new ReentrantLock());
+            when(balanceStore.selectById(anyLong())).thenAnswer(invocation -> {
+                long userId = invocation.getArgument(0);
+                return new UserPoint(userId, balances.get(userId), System.currentTimeMillis());
+            });
+            when(balanceStore.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation -> {
+                balances.put(invocation.getArgument(0), invocation.getArgument(1));
+                return new UserPoint(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis());
+            });
+            doAnswer(invocation -> {
+                if ((long) invocation.getArgument(0) == toUserId) {
+                    throw new IllegalStateException("이력 기록 실패");
+                }
+                return null;
+            }).when(historyStore).insert(anyLong(), anyLong(), any(), anyLong());
+
+            // when
+            assertThrows(IllegalStateException.class, () -> pointService.transfer(fromUserId, toUserId, 300L));
+
+            // then
+            assertEquals(1000L, balances.get(fromUserId));
+            assertEquals(500L, balances.get(toUserId));
+            assertEquals(1500L, balances.get(fromUserId) + balances.get(toUserId));
+        }
+
+        @Test
+        void 자기_자신에게_이체하면_IllegalArgumentException이_발생한다() {
+            // when & then
+            assertThrows(IllegalArgumentException.class, () -> pointService.transfer(1L, 1L, 300L));
+            verifyNoInteractions(lockManager);
+        }
+
+        private void givenUsers(long fromUserId, long fromPoint, long toUserId, long toPoint) {
+            when(lockManager.getLock(anyLong())).thenAnswer(invocation -> new ReentrantLock());
+            when(balanceStore.selectById(fromUserId)).thenReturn(new UserPoint(fromUserId, fromPoint, System.currentTimeMillis()));
+            when(balanceStore.selectById(toUserId)).thenReturn(new UserPoint(toUserId, toPoint, System.currentTimeMillis()));
+        }
+    }
+
+    @Nested
+    class OptimisticTest {
+        private final UserVersionManager.UserVersion version =
+                new UserVersionManager(new OptimisticProperties(true, 3, 32, 0.2, 256)).getVersion(1L);
+
+        @Test
+        void 낙관적_충전시_사용자_락_없이_반영하고_버전을_올린다() {
+            // given
+            long userId = 1L;
+            givenOptimistic(userId);
+            when(balanceStore.selectById(userId)).thenReturn(new UserPoint(userId, 1000L, System.currentTimeMillis()));
+            when(balanceStore.insertOrUpdate(userId, 1500L)).thenReturn(new UserPoint(userId, 1500L, System.currentTimeMillis()));
+
+            // when
+            UserPoint result = pointService.charge(userId, 500L);
+
+            // then
+            assertEquals(1500L, result.point());
+            // 쓰기 한 번 (버전은 쓰기마다 2씩 증가)
+            assertEquals(2L, version.read());
+            verify(lockManager, never()).getLock(anyLong());
+            verify(historyStore).insert(eq(userId), eq(500L), eq(CHARGE), anyLong());
+        }
+
+        @Test
+        void 충돌이_maxConflicts번_이어지면_사용자_락으로_반영한다() {
+            // given
+            long userId = 1L;
+            givenOptimistic(userId);
+            when(lockManager.getLock(userId)).thenReturn(new ReentrantLock());
+            // 낙관적으로 조회할 때마다(3번) 다른 쓰기가 반영된 것처럼 버전을 올림
+            AtomicInteger selectCount = new AtomicInteger();
+            when(balanceStore.selectById(userId)).thenAnswer(invocation -> {
+                if (selectCount.incrementAndGet() <= 3) {
+                    version.claim();
+                    version.publish();
+                }
+                return new UserPoint(userId, 1000L, System.currentTimeMillis());
+            });
+            when(balanceStore.insertOrUpdate(userId, 700L)).thenReturn(new UserPoint(userId, 700L, System.currentTimeMillis()));
+
+            // when
+            UserPoint result = pointService.use(userId, 300L);
+
+            // then
+            assertEquals(700L, result.point());
+            // 다른 쓰기 3번과 사용자 락으로 반영한 쓰기 한 번
+            assertEquals(8L, version.read());
+            verify(versionManager).recordFallback();
+            verify(versionManager, times(1)).release(userId);
+            verify(lockManager).release(userId);
+            verify(balanceStore, times(1)).insertOrUpdate(anyLong(), anyLong());
+        }
+
+        @Test
+        void 읽은_버전이_그대로일_때_검증에_실패하면_반영하지_않고_버전도_바꾸지_않는다() {
+            // given
+            long userId = 1L;
+            givenOptimistic(userId);
+            when(balanceStore.selectById(userId)).thenReturn(new UserPoint(userId, 100L, System.currentTimeMillis()));
+
+            // when & then
+            assertThrows(PointValidationException.class, () -> pointService.use(userId, 300L));
+            assertEquals(0L, version.read());
+            verify(balanceStore, never()).insertOrUpdate(anyLong(), anyLong());
+            verify(lockManager, never()).getLock(anyLong());
+        }
+
+        private void givenOptimistic(long userId) {
+            when(versionManager.isEnabled()).thenReturn(true);
+            lenient().when(versionManager.getMaxConflicts()).thenReturn(3);
+            when(versionManager.getVersion(userId)).thenReturn(version);
+        }
+    }
+
+    @Nested
+    class LockDeadlineTest {
+        @Test
+        void 최대_대기_시간_안에_락을_얻지_못하면_LockTimeoutException이_발생하고_반영하지_않는다() throws InterruptedException {
+            // given
+            long userId = 1L;
+            ReentrantLock lock = new ReentrantLock();
+            CountDownLatch done = holdLock(lock);
+            when(lockManager.getLock(userId)).thenReturn(lock);
+            when(lockManager.getMaxWaitNanos(LockProperties.Operation.CHARGE)).thenReturn(TimeUnit.MILLISECONDS.toNanos(50));
+
+            try {
+                // when & then
+                assertThrows(LockTimeoutException.class, () -> pointService.charge(userId, 500L));
+                verify(lockManager).release(userId);
+                verify(metrics).recordLockTimeout();
+                verifyNoInteractions(balanceStore, historyStore);
+            } finally {
+                done.countDown();
+            }
+        }
+
+        @Test
+        void 요청_기한이_지났으면_락을_기다리지_않고_거절한다() throws InterruptedException {
+            // given
+            long userId = 1L;
+            ReentrantLock lock = new ReentrantLock();
+            CountDownLatch done = holdLock(lock);
+            when(lockManager.getLock(userId)).thenReturn(lock);
+
+            try {
+                // when
+                long startNanos = System.nanoTime();
+                assertThrows(LockTimeoutException.class, () -> pointService.use(userId, 500L, System.nanoTime() - 1));
+
+                // then
+                assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(1));
+                verify(lockManager).release(userId);
+            } finally {
+                done.countDown();
+            }
+        }
+
+        @Test
+        void 이체시_두번째_락을_얻지_못하면_첫번째_락을_풀고_두_참조를_모두_해제한다() throws InterruptedException {
+            // given
+            ReentrantLock firstLock = new ReentrantLock();
+            ReentrantLock secondLock = new ReentrantLock();
+            CountDownLatch done = holdLock(secondLock);
+            when(lockManager.getLock(1L)).thenReturn(firstLock);
+            when(lockManager.getLock(2L)).thenReturn(secondLock);
+            when(lockManager.getMaxWaitNanos(LockProperties.Operation.TRANSFER)).thenReturn(TimeUnit.MILLISECONDS.toNanos(50));
+
+            try {
+                // when & then
+                assertThrows(LockTimeoutException.class, () -> pointService.transfer(1L, 2L, 300L));
+                assertFalse(firstLock.isLocked());
+                verify(lockManager).release(1L);
+                verify(lockManager).release(2L);
+                verifyNoInteractions(balanceStore);
+            } finally {
+                done.countDown();
+            }
+        }
+
+        @Test
+        void 그룹_커밋을_사용해도_최대_대기_시간_안에_락을_얻지_못하면_LockTimeoutException이_발생하고_반영하지_않는다() throws InterruptedException {
+            // given
+            long userId = 1L;
+            ReentrantLock lock = new ReentrantLock();
+            CountDownLatch done = holdLock(lock);
+            PointCommandBatcher batcher = new PointCommandBatcher(lockManager, new GroupCommitProperties(true, 64));
+            PointService service = new PointService(balanceStore, historyStore, lockManager, versionManager, null, batcher,
+                    historyWriteBehind, userPointCache, readCoalescer, writeExecutor, metrics);
+            when(lockManager.getLock(userId)).thenReturn(lock);
+            when(lockManager.getMaxWaitNanos(LockProperties.Operation.CHARGE)).thenReturn(TimeUnit.MILLISECONDS.toNanos(50));
+
+            try {
+                // when & then
+                assertThrows(LockTimeoutException.class, () -> service.charge(userId, 500L));
+                verify(lockManager).release(userId);
+                verify(metrics).recordLockTimeout();
+                verifyNoInteractions(balanceStore, historyStore);
+            } finally {
+                done.countDown();
+            }
+        }
+
+        // 다른 스레드가 done 이 열릴 때까지 락을 보유
+        private CountDownLatch holdLock(ReentrantLock lock) throws InterruptedException {
+            CountDownLatch locked = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(1);
+            Thread.ofPlatform().daemon().start(() -> {
+                lock.lock();
+                try {
+                    locked.countDown();
+                    done.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    lock.unlock();
+                }
+            });
+            locked.await();
+            return done;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.ColumnarPointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.wal.FsyncPolicy;
+import io.hhplus.tdd.database.wal.WalProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PointStorageConfigurationTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PointStorageConfiguration.class)
+            .withBean(UserPointTable.class)
+            .withBean(PointHistoryTable.class);
+
+    @Test
+    void 저장소_설정이_없으면_테이블_저장소를_사용한다() {
+        contextRunner.run(context -> {
+            assertInstanceOf(TableBalanceStore.class, context.getBean(BalanceStore.class));
+            assertInstanceOf(TableHistoryStore.class, context.getBean(HistoryStore.class));
+        });
+    }
+
+    @Test
+    void primitive로_설정하면_long키_맵과_열단위_이력_저장소를_사용한다() {
+        contextRunner.withPropertyValues("point.storage.engine=primitive").run(context -> {
+            assertInstanceOf(PrimitiveBalanceStore.class, context.getBean(BalanceStore.class));
+            assertInstanceOf(ColumnarPointHistoryStore.class, context.getBean(HistoryStore.class));
+        });
+    }
+
+    @Test
+    void wal로_설정했는데_로그가_비활성화되어_있으면_시작에_실패한다() {
+        // given
+        WalProperties disabled = new WalProperties(false, Path.of("data/wal"), DataSize.ofMegabytes(1), FsyncPolicy.NEVER, Duration.ZERO, Duration.ZERO);
+
+        contextRunner.withPropertyValues("point.storage.engine=wal")
+                .withBean(WalProperties.class, () -> disabled)
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    @Test
+    void 테이블_이력_저장소는_사용자별_이력을_기록된_순서대로_반환한다() {
+        // given
+        TableHistoryStore historyStore = new TableHistoryStore(new PointHistoryTable());
+        historyStore.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+        historyStore.insert(2L, 500L, TransactionType.CHARGE, 2L);
+        historyStore.insert(1L, 300L, TransactionType.USE, 3L);
+
+        // when
+        PointHistoryPage page = historyStore.selectPageByUserId(1L, 0L, 10, 0L, Long.MAX_VALUE);
+
+        // then
+        assertEquals(2, historyStore.selectAllByUserId(1L).size());
+        assertEquals(historyStore.selectAllByUserId(1L), page.histories());
+    }
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveBalanceStoreTest {
+    private final PrimitiveBalanceStore store = new PrimitiveBalanceStore();
+
+    @Test
+    void 포인트가_없는_사용자는_0포인트를_반환한다() {
+        // when
+        UserPoint userPoint = store.selectById(1L);
+
+        // then
+        assertEquals(1L, userPoint.id());
+        assertEquals(0L, userPoint.point());
+    }
+
+    @Test
+    void 저장한_포인트를_조회하면_마지막으로_저장한_포인트를_반환한다() {
+        // given
+        store.insertOrUpdate(1L, 1000L);
+
+        // when
+        store.insertOrUpdate(1L, 700L);
+
+        // then
+        assertEquals(700L, store.selectById(1L).point());
+        assertEquals(1, store.size());
+    }
+}
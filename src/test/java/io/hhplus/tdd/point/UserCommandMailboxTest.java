@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserCommandMailboxTest {
+    private final UserCommandMailbox mailbox = new UserCommandMailbox(new MailboxProperties(true, 4, 32, false));
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        mailbox.shutdown();
+    }
+
+    @Test
+    void 동일_사용자의_명령은_제출한_순서대로_하나씩_처리된다() throws Exception {
+        // given
+        long userId = 1L;
+        int commandCount = 200;
+        List<Integer> processOrder = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlapped = new AtomicInteger();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < commandCount; i++) {
+            final int order = i;
+            futures.add(mailbox.submit(userId, () -> {
+                if (running.incrementAndGet() > 1) {
+                    overlapped.incrementAndGet();
+                }
+                processOrder.add(order);
+                running.decrementAndGet();
+                return order;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(0, overlapped.get());
+        for (int i = 0; i < commandCount; i++) {
+            assertEquals(i, processOrder.get(i));
+            assertEquals(i, futures.get(i).get());
+        }
+    }
+
+    @Test
+    void 서로_다른_사용자의_명령은_동시에_처리된다() throws Exception {
+        // given
+        int userCount = 4;
+        CountDownLatch allStarted = new CountDownLatch(userCount);
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+
+        // when
+        // 모든 사용자의 명령이 동시에 시작되어야만 await 가 통과됨
+        for (long userId = 1; userId <= userCount; userId++) {
+            futures.add(mailbox.submit(userId, () -> {
+                allStarted.countDown();
+                try {
+                    return allStarted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+
+        // then
+        for (CompletableFuture<Boolean> future : futures) {
+            assertTrue(future.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void 명령이_실패하면_해당_Future만_예외로_완료되고_다음_명령은_처리된다() throws Exception {
+        // given
+        long userId = 1L;
+
+        // when
+        CompletableFuture<Long> failed = mailbox.submit(userId, () -> {
+            throw new IllegalArgumentException("포인트가 부족합니다.");
+        });
+        CompletableFuture<Long> next = mailbox.submit(userId, () -> 1000L);
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        assertEquals(1000L, next.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void 처리가_끝난_메일박스는_제거된다() throws Exception {
+        // given
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+
+        // when
+        for (long userId = 1; userId <= 1000; userId++) {
+            final long id = userId;
+            futures.add(mailbox.submit(userId, () -> id));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // then
+        // 마지막 명령의 Future 완료 직후 drain 이 정리 단계를 수행하므로 잠시 대기
+        long deadline = System.currentTimeMillis() + 1000;
+        while (mailbox.getActiveMailboxCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, mailbox.getActiveMailboxCount());
+    }
+}
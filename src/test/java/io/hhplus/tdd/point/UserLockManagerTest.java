@@ -8,6 +8,9 @@ import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -138,4 +141,109 @@ class UserLockManagerTest {
         assertEquals(List.of("Thread2", "Thread3"), lockOrder,
                 "락 획득 순서가 요청 순서와 다릅니다.");
     }
+
+    @Test
+    void 락_참조가_모두_해제되면_레지스트리에서_제거된다() {
+        // given
+        Long userId = 7L;
+        ReentrantLock lock = lockManager.getLock(userId);
+        lockManager.getLock(userId);
+
+        // when
+        lockManager.release(userId);
+
+        // then
+        assertEquals(1, lockManager.getLiveLockCount());  // 아직 참조가 남아있음
+        assertSame(lock, lockManager.getLock(userId));
+        lockManager.release(userId);
+        lockManager.release(userId);
+        assertEquals(0, lockManager.getLiveLockCount());
+        assertEquals(1, lockManager.getEvictionCount());
+    }
+
+    @Test
+    void 락을_기다리는_스레드가_있으면_제거되지_않고_같은_락을_받는다() throws InterruptedException {
+        // given
+        Long userId = 8L;
+        ReentrantLock lock = lockManager.getLock(userId);
+        lock.lock();
+
+        ReentrantLock[] waiterLock = new ReentrantLock[1];
+        Thread waiter = new Thread(() -> {
+            ReentrantLock acquired = lockManager.getLock(userId);
+            acquired.lock();
+            try {
+                waiterLock[0] = acquired;
+            } finally {
+                acquired.unlock();
+                lockManager.release(userId);
+            }
+        });
+        waiter.start();
+        Thread.sleep(100); // waiter가 대기열에 들어가도록
+
+        // when
+        lock.unlock();
+        lockManager.release(userId);
+        waiter.join();
+
+        // then
+        assertSame(lock, waiterLock[0]);
+        assertEquals(0, lockManager.getLiveLockCount());
+    }
+
+    @Test
+    void 임의의_사용자ID가_계속_바뀌어도_살아있는_락의_수는_동시_요청_수를_넘지_않는다() throws InterruptedException {
+        // given
+        int threadCount = 16;
+        int iterations = 100_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch endLatch = new CountDownLatch(threadCount);
+        AtomicInteger maxLiveLocks = new AtomicInteger();
+        AtomicInteger mutualExclusionViolations = new AtomicInteger();
+        // 같은 사용자 구간에서 다른 락을 받으면 동시에 진입하게 되므로, 사용자별 진입 수로 상호배제를 확인
+        int hotUsers = 64;
+        AtomicInteger[] inside = new AtomicInteger[hotUsers];
+        for (int i = 0; i < hotUsers; i++) {
+            inside[i] = new AtomicInteger();
+        }
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            executorService.submit(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < iterations; i++) {
+                        // 절반은 소수의 사용자에 몰리고, 절반은 매번 새로운 사용자
+                        long userId = random.nextBoolean() ? random.nextInt(hotUsers) : hotUsers + random.nextLong(Long.MAX_VALUE - hotUsers);
+                        ReentrantLock lock = lockManager.getLock(userId);
+                        lock.lock();
+                        try {
+                            if (userId < hotUsers && inside[(int) userId].incrementAndGet() > 1) {
+                                mutualExclusionViolations.incrementAndGet();
+                            }
+                            maxLiveLocks.accumulateAndGet(lockManager.getLiveLockCount(), Math::max);
+                            if (userId < hotUsers) {
+                                inside[(int) userId].decrementAndGet();
+                            }
+                        } finally {
+                            lock.unlock();
+                            lockManager.release(userId);
+                        }
+                    }
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        assertTrue(endLatch.await(60, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        // then
+        assertEquals(0, mutualExclusionViolations.get());
+        assertTrue(maxLiveLocks.get() <= threadCount, "살아있는 락 수: " + maxLiveLocks.get());
+        assertEquals(0, lockManager.getLiveLockCount());
+        assertTrue(lockManager.getEvictionCount() > iterations);
+    }
 }
\ No newline at end of file
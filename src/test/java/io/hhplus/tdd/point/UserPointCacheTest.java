@@ -0,0 +1,129 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import static io.hhplus.tdd.point.CacheProperties.Eviction.LRU;
+import static io.hhplus.tdd.point.CacheProperties.Eviction.TINY_LFU;
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserPointCacheTest {
+
+    @Test
+    void 캐시에_채운_포인트는_다시_조회하면_캐시에서_반환된다() {
+        // given
+        UserPointCache cache = new UserPointCache(new CacheProperties(true, 100, LRU));
+        long userId = 1L;
+        UserPoint userPoint = new UserPoint(userId, 1000L, System.currentTimeMillis());
+
+        // when
+        UserPoint miss = cache.get(userId);
+        cache.fill(userId, userPoint, cache.writeStamp(userId));
+        UserPoint hit = cache.get(userId);
+
+        // then
+        assertNull(miss);
+        assertEquals(userPoint, hit);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void 테이블_조회_도중_변경이_있었다면_조회한_값은_캐시에_채우지_않는다() {
+        // given
+        UserPointCache cache = new UserPointCache(new CacheProperties(true, 100, LRU));
+        long userId = 1L;
+        long writeStamp = cache.writeStamp(userId);  // 조회 시작
+        UserPoint updated = new UserPoint(userId, 2000L, System.currentTimeMillis());
+
+        // when
+        cache.put(updated);  // 조회 도중 충전 완료
+        cache.fill(userId, new UserPoint(userId, 1000L, System.currentTimeMillis()), writeStamp);  // 오래된 조회 결과
+
+        // then
+        assertEquals(updated, cache.get(userId));
+    }
+
+    @Test
+    void 변경된_포인트는_캐시에_바로_반영된다() {
+        // given
+        UserPointCache cache = new UserPointCache(new CacheProperties(true, 100, LRU));
+        long userId = 1L;
+        cache.fill(userId, new UserPoint(userId, 1000L, System.currentTimeMillis()), cache.writeStamp(userId));
+
+        // when
+        UserPoint updated = new UserPoint(userId, 1500L, System.currentTimeMillis());
+        cache.put(updated);
+
+        // then
+        assertEquals(updated, cache.get(userId));
+    }
+
+    @Test
+    void LRU_정책은_가득_차면_가장_오래_사용되지_않은_사용자를_제거한다() {
+        // given
+        // 구간(16개)마다 1명씩 보관
+        UserPointCache cache = new UserPointCache(new CacheProperties(true, 16, LRU));
+
+        // when
+        for (long userId = 1; userId <= 1000; userId++) {
+            cache.put(new UserPoint(userId, userId, 0));
+        }
+
+        // then
+        assertEquals(16, cache.size());
+        assertEquals(1000 - 16, cache.getEvictionCount());
+        assertEquals(1000, cache.get(1000).point());
+    }
+
+    @Test
+    void TINY_LFU_정책은_자주_조회되는_사용자를_한_번_조회된_사용자들로_밀어내지_않는다() {
+        // given
+        UserPointCache lruCache = new UserPointCache(new CacheProperties(true, 16 * 4, LRU));
+        UserPointCache tinyLfuCache = new UserPointCache(new CacheProperties(true, 16 * 4, TINY_LFU));
+
+        // when
+        // 자주 조회되는 사용자 사이사이에 한 번씩만 조회되는 사용자들이 계속 들어옴
+        int lruHotMisses = readWithOneHitWonders(lruCache);
+        int tinyLfuHotMisses = readWithOneHitWonders(tinyLfuCache);
+
+        // then
+        assertTrue(tinyLfuHotMisses <= 2, "TINY_LFU miss: " + tinyLfuHotMisses);
+        assertTrue(lruHotMisses > tinyLfuHotMisses, "LRU miss: " + lruHotMisses);
+        assertTrue(tinyLfuCache.getRejectionCount() > 0);
+    }
+
+    private int readWithOneHitWonders(UserPointCache cache) {
+        long hotUserId = 0L;
+        int hotMisses = 0;
+        for (long userId = 1; userId <= 20_000; userId++) {
+            read(cache, userId);
+            if (userId % 100 == 0 && !read(cache, hotUserId)) {
+                hotMisses++;
+            }
+        }
+        return hotMisses;
+    }
+
+    private boolean read(UserPointCache cache, long userId) {
+        if (cache.get(userId) != null) {
+            return true;
+        }
+        cache.fill(userId, new UserPoint(userId, 0, 0), cache.writeStamp(userId));
+        return false;
+    }
+
+    @Test
+    void 캐시가_꺼져있으면_아무것도_보관하지_않는다() {
+        // given
+        UserPointCache cache = new UserPointCache(new CacheProperties(false, 100, LRU));
+        long userId = 1L;
+
+        // when
+        cache.put(new UserPoint(userId, 1000L, 0));
+
+        // then
+        assertNull(cache.get(userId));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMissCount());
+    }
+}
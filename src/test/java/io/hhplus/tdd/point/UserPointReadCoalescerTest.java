@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserPointReadCoalescerTest {
+    private final UserPointReadCoalescer readCoalescer = new UserPointReadCoalescer(new ReadCoalescingProperties(true));
+
+    @Test
+    void 같은_사용자의_동시_조회는_저장소_조회_한번의_결과를_함께_받는다() throws Exception {
+        // given
+        long userId = 1L;
+        int readerCount = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(readerCount);
+
+        // when (첫 조회가 저장소 조회 중인 동안 나머지 조회가 들어옴)
+        CompletableFuture<UserPoint> leader = CompletableFuture.supplyAsync(() -> readCoalescer.read(userId, id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return new UserPoint(id, 1000L, 0L);
+        }), executor);
+        loading.await();
+        List<CompletableFuture<UserPoint>> followers = new ArrayList<>();
+        for (int i = 1; i < readerCount; i++) {
+            followers.add(CompletableFuture.supplyAsync(() -> readCoalescer.read(userId, id -> {
+                loads.incrementAndGet();
+                return new UserPoint(id, -1L, 0L);
+            }), executor));
+        }
+        while (readCoalescer.getSharedCount() < readerCount - 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // then
+        assertEquals(1000L, leader.get(5, TimeUnit.SECONDS).point());
+        for (CompletableFuture<UserPoint> follower : followers) {
+            assertEquals(1000L, follower.get(5, TimeUnit.SECONDS).point());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, readCoalescer.getLoadCount());
+        assertEquals(0, readCoalescer.getInFlightCount());
+        executor.shutdown();
+    }
+
+    @Test
+    void 포인트가_변경되면_이후_조회는_진행_중인_조회에_합류하지_않고_다시_조회한다() throws Exception {
+        // given
+        long userId = 2L;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<UserPoint> stale = CompletableFuture.supplyAsync(() -> readCoalescer.read(userId, id -> {
+            loading.countDown();
+            await(release);
+            return new UserPoint(id, 1000L, 0L);
+        }));
+        loading.await();
+
+        // when
+        readCoalescer.invalidate(userId);
+        UserPoint fresh = readCoalescer.read(userId, id -> new UserPoint(id, 2000L, 0L));
+        release.countDown();
+
+        // then
+        assertEquals(2000L, fresh.point());
+        assertEquals(1000L, stale.get(5, TimeUnit.SECONDS).point());
+        assertEquals(2, readCoalescer.getLoadCount());
+        assertEquals(1, readCoalescer.getInvalidationCount());
+    }
+
+    @Test
+    void 저장소_조회가_실패하면_다음_조회는_다시_저장소를_조회한다() {
+        // given
+        long userId = 3L;
+
+        // when
+        assertThrows(IllegalStateException.class, () -> readCoalescer.read(userId, id -> {
+            throw new IllegalStateException("조회 실패");
+        }));
+        UserPoint userPoint = readCoalescer.read(userId, id -> new UserPoint(id, 500L, 0L));
+
+        // then
+        assertEquals(500L, userPoint.point());
+        assertEquals(0, readCoalescer.getInFlightCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserVersionManagerTest {
+    private final UserVersionManager versionManager = new UserVersionManager(new OptimisticProperties(true, 3, 4, 0.5, 2));
+
+    @Test
+    void 읽은_버전_이후_다른_쓰기가_반영되면_쓰기를_시작할_수_없다() {
+        // given
+        UserVersionManager.UserVersion version = versionManager.getVersion(1L);
+        long sequence = version.read();
+        long claimed = version.claim();
+        version.publish();
+
+        // when & then
+        assertEquals(1L, claimed);
+        assertFalse(version.isCurrent(sequence));
+        assertFalse(version.tryClaim(sequence));
+        assertTrue(version.tryClaim(version.read()));
+    }
+
+    @Test
+    void 쓰기가_진행_중이면_버전을_읽을_수_없고_취소하면_이전_버전으로_돌아간다() {
+        // given
+        UserVersionManager.UserVersion version = versionManager.getVersion(2L);
+        long sequence = version.read();
+
+        // when
+        assertTrue(version.tryClaim(sequence));
+        long during = version.read();
+        version.abort();
+
+        // then
+        assertEquals(-1L, during);
+        assertEquals(sequence, version.read());
+    }
+
+    @Test
+    void 충돌_비율이_기준을_넘으면_정해진_요청_수_동안_사용자_락을_권한다() {
+        // given
+        UserVersionManager.UserVersion version = versionManager.getVersion(3L);
+
+        // when (4번 중 3번 충돌)
+        version.recordAttempt(true);
+        version.recordAttempt(true);
+        version.recordAttempt(true);
+        version.recordAttempt(false);
+
+        // then
+        assertFalse(version.preferOptimistic());
+        assertFalse(version.preferOptimistic());
+        assertTrue(version.preferOptimistic());
+        assertEquals(3, versionManager.getConflictCount());
+        assertEquals(1, versionManager.getCommitCount());
+    }
+
+    @Test
+    void 낙관적_쓰기와_락을_잡은_쓰기가_섞여도_쓰기가_겹치지_않는다() throws InterruptedException {
+        // given
+        UserVersionManager.UserVersion version = versionManager.getVersion(4L);
+        int threadCount = 8;
+        int writesPerThread = 2000;
+        long[] counter = new long[1];
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        // when (짝수 스레드는 낙관적으로, 홀수 스레드는 claim 으로 counter 를 증가)
+        for (int i = 0; i < threadCount; i++) {
+            boolean optimistic = i % 2 == 0;
+            executor.execute(() -> {
+                for (int n = 0; n < writesPerThread; n++) {
+                    if (optimistic) {
+                        while (!version.tryClaim(version.read())) {
+                            Thread.onSpinWait();
+                        }
+                    } else {
+                        version.claim();
+                    }
+                    counter[0]++;
+                    version.publish();
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        assertEquals((long) threadCount * writesPerThread, counter[0]);
+        assertEquals((long) threadCount * writesPerThread * 2, version.read());
+    }
+
+    @Test
+    void 참조하는_쓰기가_남아있는_동안에는_같은_버전을_주고_모두_해제되면_제거한다() {
+        // given
+        long userId = 5L;
+        UserVersionManager.UserVersion first = versionManager.getVersion(userId);
+        UserVersionManager.UserVersion second = versionManager.getVersion(userId);
+        first.claim();
+        first.publish();
+
+        // when
+        versionManager.release(userId);
+        int liveAfterFirstRelease = versionManager.getLiveVersionCount();
+        versionManager.release(userId);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, liveAfterFirstRelease);
+        assertEquals(0, versionManager.getLiveVersionCount());
+        assertEquals(1, versionManager.getEvictionCount());
+    }
+}